@@ -0,0 +1,77 @@
+package org.tkit.onecx.test.domain.clients;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tkit.onecx.test.domain.models.TestProbeConfig;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.ext.web.client.HttpRequest;
+import io.vertx.mutiny.ext.web.client.WebClient;
+import io.vertx.mutiny.uritemplate.UriTemplate;
+
+/**
+ * Web client shared by all security probes. The connection pool is created once and closed on shutdown.
+ */
+@ApplicationScoped
+public class ProbeWebClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ProbeWebClient.class);
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    TestProbeConfig config;
+
+    private WebClient client;
+
+    @PostConstruct
+    void init() {
+        var options = createOptions(config.client());
+        log.info("Creating probe web client with max pool size {}, keep-alive {}, protocol {}",
+                options.getMaxPoolSize(), options.isKeepAlive(), options.getProtocolVersion());
+        client = WebClient.create(vertx, options);
+    }
+
+    @PreDestroy
+    void close() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    public HttpRequest<Buffer> requestAbs(HttpMethod method, String uri) {
+        return client.requestAbs(method, uri);
+    }
+
+    public HttpRequest<Buffer> requestAbs(HttpMethod method, UriTemplate uri) {
+        return client.requestAbs(method, uri);
+    }
+
+    static WebClientOptions createOptions(TestProbeConfig.Client config) {
+        var options = new WebClientOptions();
+        options.setVerifyHost(false);
+        options.setTrustAll(true);
+        options.setMaxPoolSize(config.maxPoolSize());
+        options.setKeepAlive(config.keepAlive());
+        options.setKeepAliveTimeout(config.keepAliveTimeout());
+        options.setIdleTimeout(config.idleTimeout());
+        options.setPipelining(config.pipelining());
+        options.setPipeliningLimit(config.pipeliningLimit());
+        if (config.http2()) {
+            options.setProtocolVersion(HttpVersion.HTTP_2);
+            options.setUseAlpn(true);
+            options.setHttp2MaxPoolSize(config.http2MaxPoolSize());
+        }
+        return options;
+    }
+}
@@ -1,17 +1,31 @@
 package org.tkit.onecx.test.domain.clients;
 
+import java.io.InputStream;
+
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import io.smallrye.mutiny.Uni;
+
 @Path("/q")
 public interface QuarkusAdminClient {
 
+    /**
+     * Fetches the OpenAPI spec, the body is streamed and not buffered by the client.
+     */
     @GET
     @Path("openapi")
     @Consumes("application/yaml")
-    Response getOpenApiYaml();
+    @ClientHeaderParam(name = HttpHeaders.ACCEPT_ENCODING, value = "gzip")
+    RestResponse<InputStream> getOpenApiYaml(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince);
 
     @GET
     @Path("metrics")
@@ -19,7 +33,7 @@ public interface QuarkusAdminClient {
 
     @GET
     @Path("health")
-    Response getHealth();
+    Uni<Response> getHealth();
 
     @GET
     @Path("swagger-ui")
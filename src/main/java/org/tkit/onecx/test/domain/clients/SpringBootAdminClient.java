@@ -1,18 +1,27 @@
 package org.tkit.onecx.test.domain.clients;
 
+import java.io.InputStream;
+
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.Encoded;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.jboss.resteasy.reactive.RestResponse;
+
+import io.smallrye.mutiny.Uni;
+
 @Path("/")
 public interface SpringBootAdminClient {
 
     @GET
     @Path("swagger-ui/index.html")
-    Response getSwaggerUi();
+    Uni<Response> getSwaggerUi();
 
     @GET
     @Path("swagger-ui/swagger-initializer.js")
@@ -33,4 +42,15 @@ public interface SpringBootAdminClient {
     @GET
     @Path("{path: .+}")
     Response getResource(@Encoded @PathParam("path") String path);
+
+    /**
+     * Fetches the OpenAPI spec, the validators of a cached spec make it a conditional request.
+     * The spec may be sent gzip encoded, the body is streamed and not buffered by the client.
+     */
+    @GET
+    @Path("{path: .+}")
+    @ClientHeaderParam(name = HttpHeaders.ACCEPT_ENCODING, value = "gzip")
+    RestResponse<InputStream> getOpenApiSpec(@Encoded @PathParam("path") String path,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince);
 }
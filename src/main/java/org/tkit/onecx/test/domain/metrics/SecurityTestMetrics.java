@@ -1,9 +1,12 @@
 package org.tkit.onecx.test.domain.metrics;
 
+import java.util.function.Supplier;
+
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 
 /**
@@ -17,6 +20,9 @@ import io.micrometer.core.instrument.MeterRegistry;
  *   onecx_security_test_requests_total{service="my-service",status="OK"} 3.0
  *   onecx_security_test_requests_total{service="other-service",status="FAILED"} 1.0
  * </pre>
+ *
+ * The gauge {@code onecx_security_test_probe_concurrency_limit} with a {@code host} tag shows the current
+ * adaptive concurrency limit of the probes per BFF host.
  */
 @ApplicationScoped
 public class SecurityTestMetrics {
@@ -24,6 +30,8 @@ public class SecurityTestMetrics {
     static final String METRIC_NAME = "security_test_requests_total";
     static final String TAG_SERVICE = "service";
     static final String TAG_STATUS = "status";
+    static final String LIMIT_METRIC_NAME = "security_test_probe_concurrency_limit";
+    static final String TAG_HOST = "host";
 
     @Inject
     MeterRegistry registry;
@@ -42,4 +50,17 @@ public class SecurityTestMetrics {
                 .register(registry)
                 .increment();
     }
+
+    /**
+     * Register the gauge of the probe concurrency limit of a BFF host.
+     *
+     * @param host the BFF proxy host
+     * @param limit supplier of the current limit
+     */
+    public void registerProbeConcurrencyLimit(String host, Supplier<Number> limit) {
+        Gauge.builder(LIMIT_METRIC_NAME, limit)
+                .description("Current concurrency limit of security probes per BFF host")
+                .tag(TAG_HOST, host)
+                .register(registry);
+    }
 }
@@ -0,0 +1,33 @@
+package org.tkit.onecx.test.domain.models;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Operation of an OpenAPI spec with the data needed to probe it.
+ */
+@Getter
+@ToString
+public class OpenApiOperation {
+
+    String path;
+    String method;
+    String operationId;
+    List<String> pathParameters;
+
+    /**
+     * Value of {@code x-onecx.security} of the operation, {@code null} if not set.
+     */
+    String security;
+
+    public OpenApiOperation(String path, String method, String operationId, List<String> pathParameters,
+            String security) {
+        this.path = path;
+        this.method = method;
+        this.operationId = operationId;
+        this.pathParameters = pathParameters;
+        this.security = security;
+    }
+}
@@ -0,0 +1,48 @@
+package org.tkit.onecx.test.domain.models;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "onecx.test.admin-client")
+public interface TestAdminClientConfig {
+
+    /**
+     * Maximum number of cached Quarkus or Spring Boot admin clients, the least recently used client is closed
+     * when the limit is exceeded.
+     */
+    @WithDefault("100")
+    int maxClients();
+
+    /**
+     * Close a cached admin client that was not used for this time.
+     */
+    @WithDefault("10m")
+    Duration idleTimeout();
+
+    /**
+     * Interval of the check for idle admin clients.
+     */
+    @WithDefault("1m")
+    Duration evictionInterval();
+
+    /**
+     * Maximum number of HTTP connections of one admin client.
+     */
+    @WithDefault("5")
+    int connectionPoolSize();
+
+    /**
+     * Time a pooled connection of an admin client is kept open without traffic.
+     */
+    @WithDefault("60s")
+    Duration connectionTtl();
+
+    /**
+     * Maximum size in bytes of a downloaded OpenAPI spec, compressed and decompressed. Larger downloads are
+     * aborted.
+     */
+    @WithDefault("20971520")
+    long maxSpecSize();
+}
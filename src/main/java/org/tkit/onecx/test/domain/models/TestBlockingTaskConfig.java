@@ -0,0 +1,21 @@
+package org.tkit.onecx.test.domain.models;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "onecx.test.blocking-tasks")
+public interface TestBlockingTaskConfig {
+
+    /**
+     * Maximum number of threads for blocking tasks the caller waits for, like reading the output of a command on a
+     * pod or discovering the OpenAPI path of a Spring Boot service.
+     */
+    @WithDefault("16")
+    int maxThreads();
+
+    /**
+     * Maximum number of blocking tasks waiting for a free thread. Further tasks are rejected.
+     */
+    @WithDefault("256")
+    int queueSize();
+}
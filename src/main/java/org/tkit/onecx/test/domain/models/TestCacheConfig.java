@@ -0,0 +1,96 @@
+package org.tkit.onecx.test.domain.models;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "onecx.test.cache")
+public interface TestCacheConfig {
+
+    /**
+     * Cache of the detected BFF technology per proxy host.
+     */
+    Detection detection();
+
+    /**
+     * Cache of the parsed OpenAPI spec per host and spec path.
+     */
+    Spec spec();
+
+    /**
+     * Cache of the test results of the REST API runs per service and URL.
+     */
+    Result result();
+
+    interface Result {
+
+        /**
+         * Time-to-live of a test result, reused unless the request asks for a fresh run. {@code 0} disables the
+         * cache, concurrent requests still share one run.
+         */
+        @WithDefault("0s")
+        Duration ttl();
+    }
+
+    /**
+     * Cache of the parsed nginx proxy configuration per pod revision.
+     */
+    NginxConfig nginxConfig();
+
+    interface NginxConfig {
+
+        /**
+         * Time-to-live of a parsed configuration. The configuration is read again when the pod is replaced or runs a
+         * different image. {@code 0} disables the cache.
+         */
+        @WithDefault("24h")
+        Duration ttl();
+
+        /**
+         * Confirm a cached configuration with a checksum of the {@code nginx -T} output computed in the pod.
+         */
+        @WithDefault("false")
+        boolean verify();
+    }
+
+    /**
+     * Cache of the discovered OpenAPI spec path per Spring Boot host.
+     */
+    OpenApiPath openApiPath();
+
+    interface OpenApiPath {
+
+        /**
+         * Time-to-live of a discovered spec path. The path is discovered again when the spec request answers with
+         * an error status. {@code 0} disables the cache.
+         */
+        @WithDefault("10m")
+        Duration ttl();
+    }
+
+    interface Spec {
+
+        /**
+         * Time-to-live of a cached spec. Cached specs are revalidated on every run, so the time-to-live only
+         * limits how long specs of removed hosts are kept. {@code 0} disables the cache.
+         */
+        @WithDefault("48h")
+        Duration ttl();
+    }
+
+    interface Detection {
+
+        /**
+         * Time-to-live of a detected Quarkus or Spring Boot host, {@code 0} disables the cache.
+         */
+        @WithDefault("10m")
+        Duration ttl();
+
+        /**
+         * Time-to-live of a host that is not a BFF, {@code 0} disables negative caching.
+         */
+        @WithDefault("1m")
+        Duration negativeTtl();
+    }
+}
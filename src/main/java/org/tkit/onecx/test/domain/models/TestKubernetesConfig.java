@@ -0,0 +1,31 @@
+package org.tkit.onecx.test.domain.models;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "onecx.test.kubernetes")
+public interface TestKubernetesConfig {
+
+    /**
+     * Informer backed caches of the services and pods in the namespace of the operator.
+     */
+    Informer informer();
+
+    interface Informer {
+
+        /**
+         * Serve service and pod lookups from the informer caches. Lookups which are not in the cache yet fall back
+         * to the API server.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Resync period of the informers.
+         */
+        @WithDefault("10m")
+        Duration resyncPeriod();
+    }
+}
@@ -0,0 +1,159 @@
+package org.tkit.onecx.test.domain.models;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "onecx.test.probe")
+public interface TestProbeConfig {
+
+    /**
+     * Number of probes sent in parallel to one BFF host. This is the initial limit of the adaptive
+     * concurrency limiter.
+     */
+    @WithDefault("8")
+    int concurrency();
+
+    /**
+     * Maximum number of BFF hosts of one test run that are tested in parallel.
+     */
+    @WithDefault("4")
+    int hostConcurrency();
+
+    /**
+     * Connection settings of the shared probe web client.
+     */
+    Client client();
+
+    /**
+     * Adaptive (AIMD) concurrency limit of the probes per BFF host.
+     */
+    Limiter limiter();
+
+    interface Limiter {
+
+        /**
+         * Adapt the number of parallel probes to the latency and error responses of the host, otherwise
+         * {@code concurrency} is a fixed limit.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Lower bound of the adaptive limit.
+         */
+        @WithDefault("1")
+        int minLimit();
+
+        /**
+         * Upper bound of the adaptive limit.
+         */
+        @WithDefault("32")
+        int maxLimit();
+
+        /**
+         * Factor applied to the limit on 429 or 5xx responses, failures and rising latency.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * Latency of a probe above this multiple of the average latency is treated as overload.
+         */
+        @WithDefault("2.0")
+        double latencyTolerance();
+    }
+
+    /**
+     * Default rate limit of the probes per environment base URL.
+     */
+    RateLimit rateLimit();
+
+    interface RateLimit {
+
+        /**
+         * Probe requests per second against one environment, {@code 0} disables the rate limit.
+         */
+        @WithDefault("0")
+        double requestsPerSecond();
+
+        /**
+         * Number of probe requests that may be sent at once before the rate applies.
+         */
+        @WithDefault("10")
+        int burst();
+    }
+
+    /**
+     * Per-host circuit breaker for unreachable BFF hosts.
+     */
+    CircuitBreaker circuitBreaker();
+
+    interface CircuitBreaker {
+
+        /**
+         * Consecutive connection failures or timeouts after which the remaining probes of a host are skipped,
+         * {@code 0} disables the circuit breaker.
+         */
+        @WithDefault("5")
+        int failureThreshold();
+
+        /**
+         * Time the breaker stays open before a single trial probe checks whether the host recovered.
+         */
+        @WithDefault("10s")
+        Duration openDuration();
+    }
+
+    interface Client {
+
+        /**
+         * Maximum number of HTTP/1.x connections per target host.
+         */
+        @WithDefault("20")
+        int maxPoolSize();
+
+        /**
+         * Keep connections open for reuse between probes.
+         */
+        @WithDefault("true")
+        boolean keepAlive();
+
+        /**
+         * Keep-alive timeout of a pooled connection in seconds.
+         */
+        @WithDefault("60")
+        int keepAliveTimeout();
+
+        /**
+         * Close connections without any traffic after this number of seconds, {@code 0} disables the timeout.
+         */
+        @WithDefault("30")
+        int idleTimeout();
+
+        /**
+         * Enable HTTP/1.1 pipelining on pooled connections.
+         */
+        @WithDefault("false")
+        boolean pipelining();
+
+        /**
+         * Maximum number of pipelined requests per connection.
+         */
+        @WithDefault("10")
+        int pipeliningLimit();
+
+        /**
+         * Use HTTP/2 (ALPN or h2c upgrade) instead of HTTP/1.1.
+         */
+        @WithDefault("false")
+        boolean http2();
+
+        /**
+         * Maximum number of HTTP/2 connections per target host.
+         */
+        @WithDefault("1")
+        int http2MaxPoolSize();
+    }
+}
@@ -1,5 +1,7 @@
 package org.tkit.onecx.test.domain.models;
 
+import java.time.Duration;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,4 +14,23 @@ public class TestRequest {
     private String url;
 
     private String service;
+
+    /**
+     * Optional overrides of the configured {@link TestTimeoutConfig} values.
+     */
+    private Duration connectTimeout;
+
+    private Duration responseTimeout;
+
+    private Duration deadline;
+
+    /**
+     * Probe only new or changed operations and reuse the last results of the others.
+     */
+    private boolean incremental;
+
+    /**
+     * Start a new run instead of reusing a cached result.
+     */
+    private boolean fresh;
 }
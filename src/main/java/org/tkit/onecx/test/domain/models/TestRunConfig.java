@@ -2,8 +2,10 @@ package org.tkit.onecx.test.domain.models;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigMapping(prefix = "onecx.test.scheduler")
 public interface TestRunConfig {
@@ -18,6 +20,27 @@ public interface TestRunConfig {
      */
     Map<String, UrlServices> services();
 
+    /**
+     * Incremental scheduled runs which only probe new or changed operations.
+     */
+    Incremental incremental();
+
+    interface Incremental {
+
+        /**
+         * Reuse the last result of operations whose spec and route did not change since the last scheduled run.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Every unchanged operation is probed again at least once in this number of runs, {@code 1} probes all
+         * operations in every run.
+         */
+        @WithDefault("10")
+        int fullProbeInterval();
+    }
+
     interface UrlServices {
 
         /**
@@ -29,5 +52,15 @@ public interface TestRunConfig {
          * List of enabled service identifiers.
          */
         List<String> services();
+
+        /**
+         * Probe requests per second against this environment, overrides {@code onecx.test.probe.rate-limit}.
+         */
+        Optional<Double> requestsPerSecond();
+
+        /**
+         * Number of probe requests that may be sent at once before the rate applies.
+         */
+        Optional<Integer> burst();
     }
 }
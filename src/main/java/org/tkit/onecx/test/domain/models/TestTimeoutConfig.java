@@ -0,0 +1,47 @@
+package org.tkit.onecx.test.domain.models;
+
+import java.time.Duration;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "onecx.test.timeout")
+public interface TestTimeoutConfig {
+
+    /**
+     * Timeout for establishing the connection of a probe request.
+     */
+    @WithDefault("5s")
+    Duration connect();
+
+    /**
+     * Timeout for the response of a probe request.
+     */
+    @WithDefault("5s")
+    Duration response();
+
+    /**
+     * Deadline of a whole test run, probes not started before the deadline are skipped.
+     */
+    @WithDefault("10m")
+    Duration deadline();
+
+    /**
+     * Timeout of a command executed on the UI pod.
+     */
+    @WithDefault("10s")
+    Duration exec();
+
+    /**
+     * Timeout of one attempt to read the nginx configuration of a UI pod. A failed or timed out attempt is retried
+     * on the next ready pod of the service.
+     */
+    @WithDefault("3s")
+    Duration execAttempt();
+
+    /**
+     * Maximum number of UI pods tried to read the nginx configuration.
+     */
+    @WithDefault("3")
+    int execAttempts();
+}
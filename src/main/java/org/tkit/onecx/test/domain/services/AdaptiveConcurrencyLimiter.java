@@ -0,0 +1,171 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * AIMD concurrency limiter for the probes of one BFF host.
+ * <p>
+ * The limit grows by one for every successful probe while the limit is in use and the latency stays within
+ * {@code latencyTolerance} times the average latency. It is multiplied by {@code backoffRatio} when a probe is
+ * rejected as overloaded (e.g. 429 or 5xx), fails, times out or the latency rises above the tolerance. Failures
+ * that the caller marks as ignored change nothing.
+ * Probes above the current limit wait without blocking a thread.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final double LATENCY_SMOOTHING = 0.1;
+
+    private enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+
+    private final Deque<Permit> waiting = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private double averageLatencyNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+            double latencyTolerance) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Subscribe to the call once a slot is free.
+     *
+     * @param call the probe call
+     * @param overloaded whether the result of the call signals an overloaded host
+     */
+    public <T> Uni<T> limit(Supplier<Uni<T>> call, Predicate<T> overloaded) {
+        return limit(call, overloaded, ex -> false);
+    }
+
+    /**
+     * Subscribe to the call once a slot is free.
+     *
+     * @param call the probe call
+     * @param overloaded whether the result of the call signals an overloaded host
+     * @param ignored whether the failure of the call says nothing about the host, e.g. the call was skipped; an
+     *        ignored failure neither backs off nor grows the limit
+     */
+    public <T> Uni<T> limit(Supplier<Uni<T>> call, Predicate<T> overloaded, Predicate<Throwable> ignored) {
+        return Uni.createFrom().deferred(() -> {
+            var permit = new Permit();
+            return Uni.createFrom().<Void> emitter(permit::await)
+                    .onItem().transformToUni(v -> {
+                        permit.startNanos = System.nanoTime();
+                        return call.get();
+                    })
+                    .onItem().invoke(item -> release(permit, overloaded.test(item) ? Outcome.DROPPED : Outcome.SUCCESS))
+                    .onFailure().invoke(ex -> release(permit, ignored.test(ex) ? Outcome.IGNORED : Outcome.DROPPED))
+                    .onCancellation().invoke(() -> release(permit, Outcome.IGNORED));
+        });
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        List<Permit> granted;
+        synchronized (this) {
+            if (!permit.granted) {
+                waiting.remove(permit);
+                return;
+            }
+            if (permit.released) {
+                return;
+            }
+            permit.released = true;
+            update(outcome, System.nanoTime() - permit.startNanos);
+            inFlight--;
+            granted = grantWaiting();
+        }
+        granted.forEach(Permit::start);
+    }
+
+    private void update(Outcome outcome, long latencyNanos) {
+        switch (outcome) {
+            case DROPPED -> backoff();
+            case SUCCESS -> {
+                if (averageLatencyNanos > 0 && latencyNanos > averageLatencyNanos * latencyTolerance) {
+                    backoff();
+                } else if (inFlight * 2 >= limit) {
+                    limit = Math.min(maxLimit, limit + 1);
+                }
+                averageLatencyNanos = averageLatencyNanos > 0
+                        ? averageLatencyNanos * (1 - LATENCY_SMOOTHING) + latencyNanos * LATENCY_SMOOTHING
+                        : latencyNanos;
+            }
+            case IGNORED -> {
+                // nothing was measured
+            }
+        }
+    }
+
+    private void backoff() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    private List<Permit> grantWaiting() {
+        var granted = new ArrayList<Permit>();
+        while (inFlight < (int) limit && !waiting.isEmpty()) {
+            var permit = waiting.poll();
+            permit.granted = true;
+            inFlight++;
+            granted.add(permit);
+        }
+        return granted;
+    }
+
+    private final class Permit {
+
+        private UniEmitter<? super Void> emitter;
+        private boolean granted;
+        private boolean released;
+        private long startNanos;
+
+        void await(UniEmitter<? super Void> emitter) {
+            boolean start;
+            synchronized (AdaptiveConcurrencyLimiter.this) {
+                this.emitter = emitter;
+                start = inFlight < (int) limit;
+                if (start) {
+                    granted = true;
+                    inFlight++;
+                } else {
+                    waiting.add(this);
+                }
+            }
+            if (start) {
+                start();
+            }
+        }
+
+        void start() {
+            emitter.complete(null);
+        }
+    }
+}
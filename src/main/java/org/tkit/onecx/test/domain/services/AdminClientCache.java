@@ -0,0 +1,205 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tkit.onecx.test.domain.models.TestAdminClientConfig;
+
+import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.quarkus.rest.client.reactive.QuarkusRestClientProperties;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * REST clients of one admin client type per base URI. Clients are created once with the shared connection pool
+ * settings and evicted when they were idle for too long, when the cache is full or when the cache is closed. The
+ * cache is cleaned up on each {@link #acquire(String)} and by {@link #evictIdle()} for hosts which are not used
+ * anymore.
+ * A client is used through a {@link Lease}, an evicted client is closed once its last lease is released.
+ */
+public final class AdminClientCache<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminClientCache.class);
+
+    private final Map<String, Entry<T>> clients = new ConcurrentHashMap<>();
+
+    private final Function<String, T> factory;
+
+    private final int maxClients;
+
+    private final long idleTimeoutNanos;
+
+    private static final class Entry<T> {
+
+        private final String url;
+
+        private final T client;
+
+        private volatile long lastUsed;
+
+        private int leases;
+
+        private boolean evicted;
+
+        private Entry(String url, T client, long lastUsed) {
+            this.url = url;
+            this.client = client;
+            this.lastUsed = lastUsed;
+        }
+
+        /**
+         * @return {@code false} if the entry was evicted and the client must not be used anymore
+         */
+        private synchronized boolean lease() {
+            if (evicted) {
+                return false;
+            }
+            leases++;
+            return true;
+        }
+
+        private void release() {
+            boolean close;
+            synchronized (this) {
+                leases--;
+                close = evicted && leases == 0;
+            }
+            if (close) {
+                closeClient();
+            }
+        }
+
+        private void evict() {
+            boolean close;
+            synchronized (this) {
+                evicted = true;
+                close = leases == 0;
+            }
+            if (close) {
+                closeClient();
+            }
+        }
+
+        private void closeClient() {
+            if (client instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.debug("Could not close admin client for {}: {}", url, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Use of a cached client, the client is not closed before the lease is closed.
+     */
+    public static final class Lease<T> implements AutoCloseable {
+
+        private final Entry<T> entry;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Entry<T> entry) {
+            this.entry = entry;
+        }
+
+        public T client() {
+            return entry.client;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                entry.release();
+            }
+        }
+    }
+
+    public AdminClientCache(Class<T> type, TestAdminClientConfig config) {
+        this(url -> QuarkusRestClientBuilder.newBuilder()
+                .baseUri(URI.create(url))
+                .property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, config.connectionPoolSize())
+                .property(QuarkusRestClientProperties.CONNECTION_TTL, (int) config.connectionTtl().toSeconds())
+                .build(type), config.maxClients(), config.idleTimeout().toNanos());
+    }
+
+    AdminClientCache(Function<String, T> factory, int maxClients, long idleTimeoutNanos) {
+        this.factory = factory;
+        this.maxClients = Math.max(1, maxClients);
+        this.idleTimeoutNanos = idleTimeoutNanos;
+    }
+
+    /**
+     * @return lease of the cached client of the base URI, the client is created on first use
+     */
+    public Lease<T> acquire(String url) {
+        while (true) {
+            var entry = clients.computeIfAbsent(url, key -> new Entry<>(key, factory.apply(key), System.nanoTime()));
+            // an entry evicted in the meantime is already removed from the cache, the next round creates a new one
+            if (entry.lease()) {
+                var now = System.nanoTime();
+                entry.lastUsed = now;
+                evict(now);
+                return new Lease<>(entry);
+            }
+        }
+    }
+
+    /**
+     * Call the cached client of the base URI, the client is not closed before the returned {@link Uni} terminates.
+     */
+    public <R> Uni<R> call(String url, Function<T, Uni<R>> call) {
+        return Uni.createFrom().deferred(() -> {
+            var lease = acquire(url);
+            try {
+                return call.apply(lease.client()).onTermination().invoke(lease::close);
+            } catch (RuntimeException ex) {
+                lease.close();
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Evict the clients which were idle for too long, called periodically so that clients of hosts which are not
+     * used anymore are closed without a further {@link #acquire(String)}.
+     */
+    public void evictIdle() {
+        evict(System.nanoTime());
+    }
+
+    int size() {
+        return clients.size();
+    }
+
+    @Override
+    public void close() {
+        clients.keySet().forEach(url -> remove(url, clients.get(url)));
+    }
+
+    private void evict(long now) {
+        clients.forEach((url, entry) -> {
+            if (now - entry.lastUsed > idleTimeoutNanos) {
+                remove(url, entry);
+            }
+        });
+        while (clients.size() > maxClients) {
+            clients.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().lastUsed))
+                    .ifPresent(e -> remove(e.getKey(), e.getValue()));
+        }
+    }
+
+    private void remove(String url, Entry<T> entry) {
+        if (entry != null && clients.remove(url, entry)) {
+            entry.evict();
+        }
+    }
+}
@@ -1,28 +1,36 @@
 package org.tkit.onecx.test.domain.services;
 
-import org.eclipse.microprofile.config.ConfigProvider;
-import org.eclipse.microprofile.openapi.models.OpenAPI;
+import java.util.List;
 
-import io.smallrye.openapi.api.OpenApiConfig;
-import io.smallrye.openapi.runtime.io.Format;
-import io.smallrye.openapi.runtime.io.IOContext;
-import io.smallrye.openapi.runtime.io.JsonIO;
-import io.smallrye.openapi.runtime.io.OpenAPIDefinitionIO;
+import jakarta.ws.rs.core.Response;
 
-public interface BackendService {
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
 
-    int invokeGeneric2xxEndpoint(String url);
+import io.smallrye.mutiny.Uni;
 
-    OpenAPI getOpenApi(String url);
+public interface BackendService {
 
-    String getOpenApiSchema(String url);
+    /**
+     * Call the technology specific endpoint which answers with 2xx on a BFF of this technology.
+     * Failures are mapped to status 500, cancelling the returned {@link Uni} aborts the request.
+     */
+    Uni<Integer> invokeGeneric2xxEndpoint(String url);
 
-    default OpenAPI parse(String stream) {
-        var format = stream.stripLeading().startsWith("{") ? Format.JSON : Format.YAML;
-        var jsonio = JsonIO.newInstance(OpenApiConfig.fromConfig(ConfigProvider.getConfig()));
-        var context = IOContext.forJson(jsonio);
-        return new OpenAPIDefinitionIO<>(context).readValue(jsonio.fromString(stream, format));
-    }
+    /**
+     * Read the operations of the OpenAPI spec of the BFF.
+     */
+    List<OpenApiOperation> getOpenApiOperations(String url);
+
+    /**
+     * Download the OpenAPI spec of the BFF as sent, limited to the configured maximum spec size.
+     */
+    byte[] getOpenApiSchema(String url);
 
     String resolveOpenApiPath(String url);
+
+    static int closeAndGetStatus(Response response) {
+        try (response) {
+            return response.getStatus();
+        }
+    }
 }
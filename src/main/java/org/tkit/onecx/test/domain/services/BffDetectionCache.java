@@ -0,0 +1,40 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.tkit.onecx.test.domain.models.ServiceBFFTechnology;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Detected BFF technology per proxy host, shared by all test requests and scheduler runs.
+ * Hosts which are not a BFF are cached as empty result with a shorter time-to-live.
+ * Failed detections are not cached.
+ */
+@ApplicationScoped
+public class BffDetectionCache {
+
+    @Inject
+    TestCacheConfig config;
+
+    private final TtlCache<String, Optional<ServiceBFFTechnology>> cache = new TtlCache<>();
+
+    public Uni<ServiceBFFTechnology> get(String host, Function<String, Uni<ServiceBFFTechnology>> detector) {
+        var cached = cache.getIfPresent(host);
+        if (cached != null) {
+            return Uni.createFrom().item(cached.orElse(null));
+        }
+        return detector.apply(host)
+                .invoke(serviceType -> cache.put(host, Optional.ofNullable(serviceType),
+                        serviceType != null ? config.detection().ttl() : config.detection().negativeTtl()));
+    }
+
+    public void invalidate(String host) {
+        cache.invalidate(host);
+    }
+}
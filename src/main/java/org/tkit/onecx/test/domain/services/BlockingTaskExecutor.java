@@ -0,0 +1,59 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.tkit.onecx.test.domain.models.TestBlockingTaskConfig;
+
+/**
+ * Bounded pool for blocking tasks the caller waits for. The caller may itself run on the worker pool, so the tasks
+ * must not wait for a thread of that pool.
+ */
+@ApplicationScoped
+public class BlockingTaskExecutor {
+
+    @Inject
+    TestBlockingTaskConfig config;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        executor = create(config.maxThreads(), config.queueSize());
+    }
+
+    /**
+     * Runs the task on the pool.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if all threads are busy and the queue is full
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    void close() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor create(int maxThreads, int queueSize) {
+        var count = new AtomicInteger();
+        var pool = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), runnable -> {
+                    var thread = new Thread(runnable, "blocking-task-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,103 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker for the probes of one BFF host within a test run.
+ * <p>
+ * After {@code failureThreshold} consecutive connection failures or timeouts the breaker opens and
+ * {@link #tryAcquire()} rejects further probes. Once {@code openDuration} has passed a single trial probe is let
+ * through (half-open): a response closes the breaker again, a failure re-opens it.
+ */
+public final class HostCircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String host;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private String lastError;
+    private int openings;
+
+    public HostCircuitBreaker(String host, int failureThreshold, Duration openDuration) {
+        this.host = host;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * @return {@code true} if the probe may be sent
+     */
+    public synchronized boolean tryAcquire() {
+        if (failureThreshold <= 0) {
+            return true;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    yield false;
+                }
+                state = State.HALF_OPEN;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * The host answered, whatever the HTTP status code was.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * The probe could not connect or timed out.
+     */
+    public synchronized void onFailure(String error) {
+        lastError = error;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (failureThreshold > 0 && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            openings++;
+        }
+    }
+
+    /**
+     * The probe ended without telling anything about the host, e.g. because the deadline of the run passed. A
+     * skipped trial probe re-opens the breaker without a new open period, so the next probe is the trial.
+     */
+    public synchronized void onSkipped() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    /**
+     * Number of times the breaker opened after failures. A probe that was permitted before it waited for a free
+     * slot is only sent if the number did not change in the meantime.
+     */
+    public synchronized int openings() {
+        return openings;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    public synchronized String rejectionMessage(String uri) {
+        return "Request to %s not sent: circuit breaker for host %s is open after %d consecutive connection failures or timeouts, last error: %s"
+                .formatted(uri, host, consecutiveFailures, lastError);
+    }
+}
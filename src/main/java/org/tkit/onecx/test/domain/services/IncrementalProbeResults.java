@@ -0,0 +1,113 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.TestExecution;
+import org.tkit.onecx.test.domain.models.TestRunConfig;
+
+/**
+ * Last probe result per operation fingerprint of the incremental test runs of a service and URL.
+ * <p>
+ * An operation is probed again when its fingerprint is new, when its last result was an error or when it is part
+ * of the rotating sample of the run. The sample covers every unchanged operation once per
+ * {@code onecx.test.scheduler.incremental.full-probe-interval} runs.
+ */
+@ApplicationScoped
+public class IncrementalProbeResults {
+
+    @Inject
+    TestRunConfig config;
+
+    private final Map<RunKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private record RunKey(String service, String url) {
+    }
+
+    private record Snapshot(long runNumber, Map<Fingerprint, TestExecution> results) {
+    }
+
+    /**
+     * Operation of a BFF host together with the proxy configuration the probe is routed through.
+     */
+    public record Fingerprint(String host, String path, String method, String location, String proxyPath,
+            String servicePathKey) {
+
+        public static Fingerprint of(String host, String path, String method, ProxyConfiguration pc) {
+            return new Fingerprint(host, path, method, pc.getLocation(), pc.getProxyPath(), pc.getServicePathKey());
+        }
+    }
+
+    public Session start(String service, String url) {
+        var key = new RunKey(service, url);
+        var previous = snapshots.getOrDefault(key, new Snapshot(-1, Map.of()));
+        return new Session(key, previous, previous.runNumber() + 1, config.incremental().fullProbeInterval());
+    }
+
+    /**
+     * Results of one incremental run. The results replace the previous ones when the run finished.
+     */
+    public final class Session {
+
+        private final RunKey key;
+
+        private final Snapshot previous;
+
+        private final long runNumber;
+
+        private final int interval;
+
+        private final Map<Fingerprint, TestExecution> results = new ConcurrentHashMap<>();
+
+        private Session(RunKey key, Snapshot previous, long runNumber, int interval) {
+            this.key = key;
+            this.previous = previous;
+            this.runNumber = runNumber;
+            this.interval = interval;
+        }
+
+        /**
+         * @return copy of the previous result of an unchanged operation or {@code null} when it must be probed
+         */
+        public TestExecution reuse(Fingerprint fingerprint) {
+            var result = previous.results().get(fingerprint);
+            if (result == null || sampled(fingerprint)) {
+                return null;
+            }
+            results.put(fingerprint, result);
+            return copy(result);
+        }
+
+        /**
+         * Keep the result of a probe, errors are not kept so that the operation is probed again next run.
+         */
+        public void record(Fingerprint fingerprint, TestExecution execution) {
+            if (execution.getStatus() != TestExecution.Status.ERROR) {
+                results.put(fingerprint, copy(execution));
+            }
+        }
+
+        public void finish() {
+            snapshots.put(key, new Snapshot(runNumber, Map.copyOf(results)));
+        }
+
+        private boolean sampled(Fingerprint fingerprint) {
+            return interval <= 1 || Math.floorMod(fingerprint.hashCode(), interval) == Math.floorMod(runNumber, interval);
+        }
+    }
+
+    private static TestExecution copy(TestExecution execution) {
+        var e = new TestExecution();
+        e.setPath(execution.getPath());
+        e.setProxy(execution.getProxy());
+        e.setUrl(execution.getUrl());
+        e.setCode(execution.getCode());
+        e.setStatus(execution.getStatus());
+        e.setDetailedStatus(execution.getDetailedStatus());
+        return e;
+    }
+}
@@ -1,8 +1,17 @@
 package org.tkit.onecx.test.domain.services;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -10,6 +19,7 @@ import jakarta.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestTimeoutConfig;
 
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -24,14 +34,29 @@ public class K8sExecService {
     @Inject
     KubernetesClient client;
 
-    public K8sExecService(KubernetesClient client) {
-        this.client = client;
+    @Inject
+    K8sService k8sService;
+
+    @Inject
+    TestTimeoutConfig timeoutConfig;
+
+    /**
+     * Reads the streamed command outputs.
+     */
+    @Inject
+    BlockingTaskExecutor blockingTasks;
+
+    public String execCommandOnPod(String podName, String... cmd) {
+        return execCommandOnPod(podName, timeoutConfig.exec(), cmd);
     }
 
+    /**
+     * Same as {@link #execCommandOnPod(String, String...)} with a custom timeout for the command.
+     */
     @SuppressWarnings("java:S2142")
-    public String execCommandOnPod(String podName, String... cmd) {
+    public String execCommandOnPod(String podName, Duration timeout, String... cmd) {
         try {
-            Pod pod = client.pods().withName(podName).get();
+            Pod pod = k8sService.findPod(podName);
             if (pod == null) {
                 log.info("Pod with name '{}' not found not found.", podName);
                 return null;
@@ -42,13 +67,85 @@ public class K8sExecService {
 
             CompletableFuture<String> data = new CompletableFuture<>();
             try (ExecWatch ew = execCmd(pod, data, cmd)) {
-                return data.get(10, TimeUnit.SECONDS);
+                return data.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception ex) {
+            throw new ServiceException(ex);
+        }
+    }
+
+    /**
+     * Runs the command on the pod and hands its standard output to the {@code outputReader} while it arrives, so
+     * large outputs are never held in memory. The standard error is collected separately and only logged.
+     *
+     * @return result of the {@code outputReader} or {@code null} if the pod does not exist or the command does not
+     *         write anything to the standard output
+     */
+    public <T> T execCommandOnPod(String podName, String[] cmd, Function<Reader, T> outputReader) {
+        return execCommandOnPod(podName, cmd, timeoutConfig.exec(), outputReader);
+    }
+
+    /**
+     * Same as {@link #execCommandOnPod(String, String[], Function)} with a custom timeout for the command.
+     */
+    @SuppressWarnings("java:S2142")
+    public <T> T execCommandOnPod(String podName, String[] cmd, Duration timeout, Function<Reader, T> outputReader) {
+        try {
+            Pod pod = k8sService.findPod(podName);
+            if (pod == null) {
+                log.info("Pod with name '{}' not found not found.", podName);
+                return null;
+            }
+
+            log.info("Streaming command: [{}] on pod [{}] in namespace [{}]",
+                    cmd, pod.getMetadata().getName(), pod.getMetadata().getNamespace());
+
+            CompletableFuture<String> error = new CompletableFuture<>();
+            ByteArrayOutputStream err = new ByteArrayOutputStream();
+            try (ExecWatch ew = client.pods()
+                    .inNamespace(pod.getMetadata().getNamespace())
+                    .withName(pod.getMetadata().getName())
+                    .redirectingOutput()
+                    .writingError(err)
+                    .usingListener(new SimpleListener(error, err))
+                    .exec(cmd)) {
+
+                var output = ew.getOutput();
+                CompletableFuture<T> result = blockingTasks.supplyAsync(() -> readOutput(output, outputReader));
+                error.whenComplete((stderr, failure) -> {
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                    } else if (stderr != null && !stderr.isBlank()) {
+                        log.info("Command [{}] on pod [{}] wrote to stderr: {}", cmd, podName, stderr);
+                    }
+                });
+                // closing the watch on timeout ends the stream of the reader
+                return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof ServiceException se) {
+                throw se;
             }
+            throw new ServiceException(ex.getCause());
         } catch (Exception ex) {
             throw new ServiceException(ex);
         }
     }
 
+    private static <T> T readOutput(InputStream output, Function<Reader, T> outputReader) {
+        try {
+            var stream = new PushbackInputStream(output);
+            int first = stream.read();
+            if (first == -1) {
+                return null;
+            }
+            stream.unread(first);
+            return outputReader.apply(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            throw new ServiceException("Error reading command output: " + ex.getMessage(), ex);
+        }
+    }
+
     private ExecWatch execCmd(Pod pod, CompletableFuture<String> data, String[] command) {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         return client.pods()
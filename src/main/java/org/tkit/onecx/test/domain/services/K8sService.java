@@ -1,39 +1,207 @@
 package org.tkit.onecx.test.domain.services;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 
+import org.tkit.onecx.test.domain.models.TestKubernetesConfig;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.quarkus.runtime.StartupEvent;
 import lombok.extern.slf4j.Slf4j;
 
 @ApplicationScoped
 @Slf4j
 public class K8sService {
 
+    static final String POD_TEMPLATE_HASH = "pod-template-hash";
+
+    static final String LABEL_INDEX = "labels";
+
+    private static final String READY = "Ready";
+
+    private static final Comparator<Pod> POD_PREFERENCE = Comparator.comparing(K8sService::isTerminating)
+            .thenComparing(pod -> !isReady(pod))
+            .thenComparing(K8sService::startTime, Comparator.nullsLast(Comparator.reverseOrder()));
+
     @Inject
     KubernetesClient client;
 
+    @Inject
+    TestKubernetesConfig kubernetesConfig;
+
+    SharedIndexInformer<Service> services;
+
+    SharedIndexInformer<Pod> pods;
+
+    void startInformers(@Observes StartupEvent event) {
+        if (!kubernetesConfig.informer().enabled()) {
+            return;
+        }
+        var resync = kubernetesConfig.informer().resyncPeriod().toMillis();
+        services = client.services().runnableInformer(resync);
+        pods = client.pods().runnableInformer(resync);
+        pods.addIndexers(Map.of(LABEL_INDEX, K8sService::labelIndex));
+        start(services, "services");
+        start(pods, "pods");
+    }
+
+    private static void start(SharedIndexInformer<?> informer, String resource) {
+        informer.start().whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                log.warn("Informer for {} failed to start, lookups use the API server: {}", resource, ex.getMessage());
+            } else {
+                log.info("Informer for {} started", resource);
+            }
+        });
+    }
+
+    @PreDestroy
+    void stopInformers() {
+        if (services != null) {
+            services.stop();
+        }
+        if (pods != null) {
+            pods.stop();
+        }
+    }
+
     public Map<String, String> findServiceSelector(String name) {
         var namespace = client.getNamespace();
         log.info("Finding service selector for service: {} and namespace {}", name, namespace);
-        var service = client.services().withName(name).get();
+        var service = fromCache(services, name);
+        if (service == null) {
+            service = client.services().withName(name).get();
+        }
         if (service == null) {
             return Map.of();
         }
         return service.getSpec().getSelector();
     }
 
+    /**
+     * @return names of the pods ordered by preference, ready pods before pods which are not ready and terminating
+     *         pods last, the most recently started pod first
+     */
     public List<String> findPodsBySelector(Map<String, String> selector) {
-        var labels = new LabelSelector();
-        labels.setMatchLabels(selector);
+        var pods = podsFromCache(selector);
+        if (pods.isEmpty()) {
+            var labels = new LabelSelector();
+            labels.setMatchLabels(selector);
+            pods = client.pods().withLabelSelector(labels).list().getItems();
+        }
 
-        return client.pods().withLabelSelector(labels).list().getItems().stream()
+        return pods.stream()
+                .sorted(POD_PREFERENCE)
                 .map(pod -> pod.getMetadata().getName())
                 .toList();
     }
 
+    /**
+     * @return the pod or {@code null} if the pod does not exist
+     */
+    public Pod findPod(String name) {
+        var pod = fromCache(pods, name);
+        if (pod != null) {
+            return pod;
+        }
+        return client.pods().withName(name).get();
+    }
+
+    /**
+     * Revision of the pod built from its UID, the pod-template hash and the image digests of its containers. The
+     * revision changes whenever the pod is replaced or a container runs a different image.
+     *
+     * @return revision of the pod or {@code null} if the pod does not exist
+     */
+    public String findPodRevision(String name) {
+        var pod = findPod(name);
+        if (pod == null) {
+            return null;
+        }
+        var metadata = pod.getMetadata();
+        var templateHash = metadata.getLabels() == null ? null : metadata.getLabels().get(POD_TEMPLATE_HASH);
+        var images = pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null ? ""
+                : pod.getStatus().getContainerStatuses().stream()
+                        .map(status -> Objects.toString(status.getImageID(), ""))
+                        .sorted()
+                        .collect(Collectors.joining(","));
+        return metadata.getUid() + "/" + (templateHash == null ? "" : templateHash) + "/" + images;
+    }
+
+    private <T extends HasMetadata> T fromCache(SharedIndexInformer<T> informer, String name) {
+        var namespace = client.getNamespace();
+        if (informer == null || namespace == null || !informer.hasSynced()) {
+            return null;
+        }
+        return informer.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name));
+    }
+
+    private List<Pod> podsFromCache(Map<String, String> selector) {
+        if (pods == null || selector == null || selector.isEmpty() || !pods.hasSynced()) {
+            return List.of();
+        }
+        // look up the pods of one label and match the rest of the selector
+        var first = selector.entrySet().iterator().next();
+        return pods.getIndexer().byIndex(LABEL_INDEX, labelKey(first.getKey(), first.getValue())).stream()
+                .filter(pod -> matches(pod, selector))
+                .toList();
+    }
+
+    private static boolean matches(Pod pod, Map<String, String> selector) {
+        var labels = pod.getMetadata().getLabels();
+        return labels != null && labels.entrySet().containsAll(selector.entrySet());
+    }
+
+    private static boolean isTerminating(Pod pod) {
+        return pod.getMetadata().getDeletionTimestamp() != null;
+    }
+
+    private static boolean isReady(Pod pod) {
+        var status = pod.getStatus();
+        return status != null && status.getConditions() != null && status.getConditions().stream()
+                .anyMatch(condition -> READY.equals(condition.getType()) && "True".equals(condition.getStatus()));
+    }
+
+    private static Instant startTime(Pod pod) {
+        var status = pod.getStatus();
+        if (status == null || status.getStartTime() == null) {
+            return null;
+        }
+        try {
+            return Instant.parse(status.getStartTime());
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    static List<String> labelIndex(Pod pod) {
+        var labels = pod.getMetadata().getLabels();
+        if (labels == null) {
+            return List.of();
+        }
+        var keys = new ArrayList<String>(labels.size());
+        labels.forEach((key, value) -> keys.add(labelKey(key, value)));
+        return keys;
+    }
+
+    private static String labelKey(String key, String value) {
+        return key + "=" + value;
+    }
 }
@@ -0,0 +1,102 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
+
+/**
+ * Parsed nginx proxy configuration per pod revision, see {@link K8sService#findPodRevision(String)}. A replaced pod
+ * or a container with a different image gets a new revision, so its configuration is read again. With
+ * verification enabled a cached configuration is only reused when the checksum of the current {@code nginx -T}
+ * output in the pod is unchanged; a configuration whose checksum could not be computed is read again.
+ */
+@ApplicationScoped
+public class NginxConfigCache {
+
+    private static final Logger log = LoggerFactory.getLogger(NginxConfigCache.class);
+
+    static final String[] CMD_CONFIG_CHECKSUM = { "sh", "-c", "nginx -T 2>/dev/null | sha256sum" };
+
+    @Inject
+    TestCacheConfig config;
+
+    @Inject
+    K8sService k8sService;
+
+    @Inject
+    K8sExecService k8sExecService;
+
+    private final TtlCache<String, Entry> cache = new TtlCache<>();
+
+    private record Entry(List<ProxyConfiguration> locations, String checksum) {
+    }
+
+    /**
+     * @param pod name of the pod
+     * @param timeout timeout of the attempt to read the configuration of the pod, the checksum is part of it
+     * @param loader reads and parses the configuration of the pod within the remaining timeout, may return
+     *        {@code null}
+     * @return cached or loaded proxy configuration
+     */
+    public List<ProxyConfiguration> get(String pod, Duration timeout,
+            BiFunction<String, Duration, List<ProxyConfiguration>> loader) {
+        var start = System.nanoTime();
+        var ttl = config.nginxConfig().ttl();
+        if (ttl.isZero() || ttl.isNegative()) {
+            return loader.apply(pod, timeout);
+        }
+        var revision = k8sService.findPodRevision(pod);
+        if (revision == null) {
+            return loader.apply(pod, remaining(pod, timeout, start));
+        }
+
+        var key = pod + "/" + revision;
+        var verify = config.nginxConfig().verify();
+        var checksum = verify ? checksum(pod, remaining(pod, timeout, start)) : null;
+        var cached = cache.getIfPresent(key);
+        if (cached != null && (!verify || checksum != null) && Objects.equals(cached.checksum(), checksum)) {
+            log.debug("Reuse nginx config of pod {} with revision {}", pod, revision);
+            return cached.locations();
+        }
+
+        var locations = loader.apply(pod, remaining(pod, timeout, start));
+        if (locations == null || locations.isEmpty()) {
+            cache.invalidate(key);
+        } else if (!verify || checksum != null) {
+            cache.put(key, new Entry(List.copyOf(locations), checksum), ttl);
+        }
+        return locations;
+    }
+
+    private static Duration remaining(String pod, Duration timeout, long start) {
+        var remaining = timeout.minusNanos(System.nanoTime() - start);
+        if (remaining.isZero() || remaining.isNegative()) {
+            throw new ServiceException("Timeout of %s for reading the nginx config of pod %s exceeded"
+                    .formatted(timeout, pod));
+        }
+        return remaining;
+    }
+
+    private String checksum(String pod, Duration timeout) {
+        try {
+            var output = k8sExecService.execCommandOnPod(pod, timeout, CMD_CONFIG_CHECKSUM);
+            if (output == null || output.isBlank()) {
+                return null;
+            }
+            return output.strip().split("\\s+")[0];
+        } catch (ServiceException ex) {
+            log.warn("Error computing nginx config checksum of pod {}: {}", pod, ex.getMessage());
+            return null;
+        }
+    }
+}
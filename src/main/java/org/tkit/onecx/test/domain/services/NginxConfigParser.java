@@ -0,0 +1,219 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single pass parser of the {@code nginx -T} output into a lightweight tree of blocks and directives.
+ * <p>
+ * Comments are skipped, quoted arguments and {@code ${variable}} references may contain braces and semicolons.
+ * Blocks which are not closed before the end of the input stay in the tree with {@code closed == false}.
+ */
+final class NginxConfigParser {
+
+    static final String LOCATION = "location";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private NginxConfigParser() {
+    }
+
+    sealed interface Node permits Directive, Block {
+    }
+
+    record Directive(String name, List<String> args) implements Node {
+    }
+
+    static final class Block implements Node {
+
+        private final String name;
+
+        private final List<String> args;
+
+        /**
+         * Whether the arguments are separated from the opening brace by whitespace.
+         */
+        private final boolean separated;
+
+        private final List<Node> children = new ArrayList<>();
+
+        private boolean closed;
+
+        Block(String name, List<String> args, boolean separated) {
+            this.name = name;
+            this.args = args;
+            this.separated = separated;
+        }
+
+        String name() {
+            return name;
+        }
+
+        List<String> args() {
+            return args;
+        }
+
+        boolean separated() {
+            return separated;
+        }
+
+        List<Node> children() {
+            return children;
+        }
+
+        boolean closed() {
+            return closed;
+        }
+    }
+
+    /**
+     * @param root top level block of the configuration
+     * @param locations all {@code location} blocks in the order they start, including nested ones
+     */
+    record Config(Block root, List<Block> locations) {
+    }
+
+    static Config parse(Reader reader) throws IOException {
+        var state = new State();
+        var buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                state.accept(buffer[i]);
+            }
+        }
+        state.endWord();
+        return new Config(state.root, state.locations);
+    }
+
+    private static final class State {
+
+        private final Block root = new Block("", List.of(), true);
+
+        private final ArrayDeque<Block> blocks = new ArrayDeque<>();
+
+        private final List<Block> locations = new ArrayList<>();
+
+        private final List<String> words = new ArrayList<>();
+
+        private final StringBuilder word = new StringBuilder();
+
+        private boolean inWord;
+
+        private boolean comment;
+
+        private char quote;
+
+        private boolean escape;
+
+        private boolean variable;
+
+        private State() {
+            blocks.push(root);
+        }
+
+        void accept(char ch) {
+            if (comment) {
+                comment = ch != '\n';
+                return;
+            }
+            if (quote != 0) {
+                acceptQuoted(ch);
+                return;
+            }
+            if (variable) {
+                word.append(ch);
+                variable = ch != '}';
+                return;
+            }
+            if (Character.isWhitespace(ch)) {
+                endWord();
+                return;
+            }
+            switch (ch) {
+                case '#' -> {
+                    if (inWord) {
+                        word.append(ch);
+                    } else {
+                        comment = true;
+                    }
+                }
+                case '"', '\'' -> {
+                    if (inWord) {
+                        word.append(ch);
+                    } else {
+                        inWord = true;
+                        quote = ch;
+                    }
+                }
+                case '{' -> {
+                    if (inWord && !word.isEmpty() && word.charAt(word.length() - 1) == '$') {
+                        word.append(ch);
+                        variable = true;
+                    } else {
+                        openBlock();
+                    }
+                }
+                case ';' -> {
+                    endWord();
+                    if (!words.isEmpty()) {
+                        blocks.getFirst().children.add(new Directive(words.get(0), List.copyOf(words.subList(1,
+                                words.size()))));
+                    }
+                    words.clear();
+                }
+                case '}' -> {
+                    endWord();
+                    // a directive without terminating semicolon is invalid and dropped
+                    words.clear();
+                    if (blocks.size() > 1) {
+                        blocks.pop().closed = true;
+                    }
+                }
+                default -> {
+                    inWord = true;
+                    word.append(ch);
+                }
+            }
+        }
+
+        private void acceptQuoted(char ch) {
+            if (escape) {
+                word.append(ch);
+                escape = false;
+            } else if (ch == '\\') {
+                escape = true;
+            } else if (ch == quote) {
+                quote = 0;
+                endWord();
+            } else {
+                word.append(ch);
+            }
+        }
+
+        private void openBlock() {
+            var separated = !inWord;
+            endWord();
+            var name = words.isEmpty() ? "" : words.get(0);
+            var args = words.isEmpty() ? List.<String> of() : List.copyOf(words.subList(1, words.size()));
+            words.clear();
+            var block = new Block(name, args, separated);
+            blocks.getFirst().children.add(block);
+            blocks.push(block);
+            if (LOCATION.equals(name)) {
+                locations.add(block);
+            }
+        }
+
+        void endWord() {
+            if (inWord) {
+                words.add(word.toString());
+                word.setLength(0);
+                inWord = false;
+            }
+        }
+    }
+}
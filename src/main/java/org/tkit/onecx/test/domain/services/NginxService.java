@@ -1,5 +1,8 @@
 package org.tkit.onecx.test.domain.services;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
@@ -8,42 +11,39 @@ import java.util.regex.Pattern;
 import jakarta.enterprise.context.ApplicationScoped;
 
 import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.ServiceException;
 
 @ApplicationScoped
 public class NginxService {
 
-    static final Pattern PATTERN_LOCATION_START = Pattern.compile("\\blocation\\s+[^{}]{1,256}\\{");
-    static final Pattern PATTERN_LOCATION_PATH = Pattern.compile("(?<=location\\s)(.*?)(?=\\s\\{)");
-    static final Pattern PATTERN_PROXY_PASS = Pattern.compile("proxy_pass\\s+([^;\\s]+)");
-    static final Pattern PATTERN_LOCATION_PROXY_PASS = Pattern.compile("proxy_pass\\s+(https?://[^/\\s;]+/?)");
+    static final Pattern PATTERN_HTTP_PROXY_PASS = Pattern.compile("https?://[^/\\s;]+/?");
+
+    private static final String PROXY_PASS = "proxy_pass";
 
-    @SuppressWarnings("java:S135")
     public List<ProxyConfiguration> getProxyPassLocation(String output) {
+        return getProxyPassLocation(new StringReader(output));
+    }
 
-        var result = new ArrayList<ProxyConfiguration>();
+    /**
+     * Parses the configuration while it is read, the output of {@code nginx -T} is never held as a whole.
+     */
+    @SuppressWarnings("java:S135")
+    public List<ProxyConfiguration> getProxyPassLocation(Reader output) {
 
-        for (String location : extractLocationBlocks(output)) {
-            if (!location.contains("proxy_pass")) {
-                continue;
-            }
+        var result = new ArrayList<ProxyConfiguration>();
 
-            var pathMatcher = PATTERN_LOCATION_PATH.matcher(location);
-            if (!pathMatcher.find()) {
+        for (var location : parse(output).locations()) {
+            // the location path must be separated from the block by whitespace
+            if (!location.closed() || !location.separated() || location.args().isEmpty()) {
                 continue;
             }
-            var locationPath = normalizeLocationPath(pathMatcher.group(0));
+            var locationPath = normalizeLocationPath(location.args());
             if (locationPath.startsWith("@")) {
                 continue;
             }
 
-            var fullProxyMatcher = PATTERN_PROXY_PASS.matcher(location);
-            if (!fullProxyMatcher.find()) {
-                continue;
-            }
-            var proxyPassFull = fullProxyMatcher.group(1).trim();
-
-            var hostProxyMatcher = PATTERN_LOCATION_PROXY_PASS.matcher(location);
-            if (!hostProxyMatcher.find()) {
+            var proxyPassFull = findProxyPass(location);
+            if (proxyPassFull == null || !PATTERN_HTTP_PROXY_PASS.matcher(proxyPassFull).lookingAt()) {
                 continue;
             }
             var proxyHost = getProxyHost(proxyPassFull);
@@ -56,43 +56,42 @@ public class NginxService {
         return result;
     }
 
-    private List<String> extractLocationBlocks(String output) {
-        var blocks = new ArrayList<String>();
-        var matcher = PATTERN_LOCATION_START.matcher(output);
-        while (matcher.find()) {
-            int blockStart = matcher.start();
-            int openBraceIndex = output.indexOf('{', matcher.end() - 1);
-
-            int depth = 0;
-            int blockEnd = -1;
-            for (int i = openBraceIndex; i < output.length(); i++) {
-                char ch = output.charAt(i);
-                if (ch == '{') {
-                    depth++;
-                } else if (ch == '}') {
-                    depth--;
-                    if (depth == 0) {
-                        blockEnd = i;
-                        break;
-                    }
-                }
-            }
+    private NginxConfigParser.Config parse(Reader output) {
+        try {
+            return NginxConfigParser.parse(output);
+        } catch (IOException ex) {
+            throw new ServiceException("Error reading nginx config: " + ex.getMessage(), ex);
+        }
+    }
 
-            if (blockEnd > blockStart) {
-                blocks.add(output.substring(blockStart, blockEnd + 1));
+    /**
+     * First {@code proxy_pass} value of the location, including nested blocks like {@code if} but not nested
+     * locations.
+     */
+    private String findProxyPass(NginxConfigParser.Block block) {
+        for (var node : block.children()) {
+            if (node instanceof NginxConfigParser.Directive directive) {
+                if (PROXY_PASS.equals(directive.name()) && !directive.args().isEmpty()) {
+                    return directive.args().get(0);
+                }
+            } else if (node instanceof NginxConfigParser.Block nested
+                    && !NginxConfigParser.LOCATION.equals(nested.name())) {
+                var value = findProxyPass(nested);
+                if (value != null) {
+                    return value;
+                }
             }
         }
-        return blocks;
+        return null;
     }
 
-    private String normalizeLocationPath(String rawLocation) {
-        var location = rawLocation.trim();
-        var parts = location.split("\\s+");
-        if (("=".equals(parts[0]) || "~".equals(parts[0]) || "~*".equals(parts[0]) || "^~".equals(parts[0]))
-                && parts.length > 1) {
-            return parts[1];
+    private String normalizeLocationPath(List<String> args) {
+        var modifier = args.get(0);
+        if (("=".equals(modifier) || "~".equals(modifier) || "~*".equals(modifier) || "^~".equals(modifier))
+                && args.size() > 1) {
+            return args.get(1);
         }
-        return parts[0];
+        return modifier;
     }
 
     private String getProxyHost(String proxyPassFull) {
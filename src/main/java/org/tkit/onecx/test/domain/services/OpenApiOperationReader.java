@@ -0,0 +1,174 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ServiceException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * Streaming reader of the operations of an OpenAPI spec in JSON or YAML format.
+ * <p>
+ * Only paths, HTTP methods, operation ids, path parameters and the {@code x-onecx} extension are read, everything
+ * else, e.g. the component schemas, is skipped without building a model.
+ */
+@ApplicationScoped
+public class OpenApiOperationReader {
+
+    /**
+     * HTTP methods of a path item in the order the operations are probed.
+     */
+    private static final List<String> METHODS = List.of("get", "put", "post", "delete", "options", "head", "patch",
+            "trace");
+
+    private static final String PARAMETERS = "parameters";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final YAMLFactory yamlFactory = new YAMLFactory();
+
+    public List<OpenApiOperation> read(String content) {
+        return read(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read the operations from the raw spec bytes, the encoding is detected by the parser.
+     */
+    public List<OpenApiOperation> read(byte[] content) {
+        var factory = isJson(content) ? jsonFactory : yamlFactory;
+        try (var parser = factory.createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ServiceException("OpenAPI spec is empty or not an object");
+            }
+            var operations = new ArrayList<OpenApiOperation>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && "paths".equals(name)) {
+                    readPaths(parser, operations);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return operations;
+        } catch (IOException ex) {
+            throw new ServiceException("Error reading OpenAPI spec: " + ex.getMessage(), ex);
+        }
+    }
+
+    private static boolean isJson(byte[] content) {
+        for (var b : content) {
+            if (!Character.isWhitespace(b)) {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
+    private void readPaths(JsonParser parser, List<OpenApiOperation> operations) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var path = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readPathItem(parser, path, operations);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readPathItem(JsonParser parser, String path, List<OpenApiOperation> operations) throws IOException {
+        var pathParameters = new ArrayList<String>();
+        var pathOperations = new ArrayList<OpenApiOperation>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var name = parser.currentName();
+            var token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT && METHODS.contains(name)) {
+                pathOperations.add(readOperation(parser, path, name.toUpperCase(Locale.ROOT)));
+            } else if (token == JsonToken.START_ARRAY && PARAMETERS.equals(name)) {
+                readPathParameters(parser, pathParameters);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        pathOperations.sort(Comparator.comparingInt(op -> METHODS.indexOf(op.getMethod().toLowerCase(Locale.ROOT))));
+        pathOperations.forEach(op -> {
+            pathParameters.stream()
+                    .filter(p -> !op.getPathParameters().contains(p))
+                    .forEach(op.getPathParameters()::add);
+            operations.add(op);
+        });
+    }
+
+    private OpenApiOperation readOperation(JsonParser parser, String path, String method) throws IOException {
+        String operationId = null;
+        String security = null;
+        var pathParameters = new ArrayList<String>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var name = parser.currentName();
+            var token = parser.nextToken();
+            if ("operationId".equals(name) && token.isScalarValue()) {
+                operationId = parser.getText();
+            } else if (PARAMETERS.equals(name) && token == JsonToken.START_ARRAY) {
+                readPathParameters(parser, pathParameters);
+            } else if ("x-onecx".equals(name) && token == JsonToken.START_OBJECT) {
+                security = readField(parser, "security");
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new OpenApiOperation(path, method, operationId, pathParameters, security);
+    }
+
+    /**
+     * Collect the names of the path parameters, referenced parameters are not resolved.
+     */
+    private void readPathParameters(JsonParser parser, List<String> names) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String name = null;
+            String in = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var field = parser.currentName();
+                var value = parser.nextToken();
+                if ("name".equals(field) && value.isScalarValue()) {
+                    name = parser.getText();
+                } else if ("in".equals(field) && value.isScalarValue()) {
+                    in = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (name != null && "path".equals(in)) {
+                names.add(name);
+            }
+        }
+    }
+
+    private String readField(JsonParser parser, String field) throws IOException {
+        String value = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var name = parser.currentName();
+            var token = parser.nextToken();
+            if (field.equals(name) && token.isScalarValue()) {
+                value = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return value;
+    }
+}
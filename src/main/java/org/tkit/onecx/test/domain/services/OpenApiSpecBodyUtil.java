@@ -0,0 +1,65 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.jboss.resteasy.reactive.RestResponse;
+import org.tkit.onecx.test.domain.models.ServiceException;
+
+public final class OpenApiSpecBodyUtil {
+
+    private static final String GZIP = "gzip";
+
+    private OpenApiSpecBodyUtil() {
+    }
+
+    /**
+     * Read the body of a spec response, a gzip encoded body is decompressed while reading.
+     *
+     * The download stops after {@code maxSize} bytes, the rest of the body is never received.
+     *
+     * @param response spec response with the streamed body
+     * @param maxSize maximum size in bytes of the body and of the decompressed body
+     * @return body bytes, empty when the response has no body
+     * @throws ServiceException when the body exceeds the maximum size or can not be read
+     */
+    public static byte[] read(RestResponse<InputStream> response, long maxSize) {
+        if (response.getLength() > maxSize) {
+            throw tooLarge(maxSize);
+        }
+        var body = response.getEntity();
+        if (body == null) {
+            return new byte[0];
+        }
+        var limit = (int) Math.min(maxSize + 1, Integer.MAX_VALUE - 8L);
+        try (var in = GZIP.equalsIgnoreCase(response.getHeaderString(HttpHeaders.CONTENT_ENCODING))
+                ? new GZIPInputStream(body)
+                : body) {
+            var bytes = in.readNBytes(limit);
+            if (bytes.length > maxSize) {
+                throw tooLarge(maxSize);
+            }
+            return bytes;
+        } catch (IOException ex) {
+            throw new ServiceException("Error reading OpenAPI spec: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Same as {@link #read(RestResponse, long)}, the response is closed afterwards.
+     */
+    public static byte[] readAndClose(RestResponse<InputStream> response, long maxSize) {
+        try {
+            return read(response, maxSize);
+        } finally {
+            response.close();
+        }
+    }
+
+    private static ServiceException tooLarge(long maxSize) {
+        return new ServiceException("OpenAPI spec exceeds the maximum size of %d bytes".formatted(maxSize));
+    }
+}
@@ -0,0 +1,107 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.RestResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestAdminClientConfig;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
+
+/**
+ * Operations read from the OpenAPI spec per host and spec path, shared by all test runs.
+ * <p>
+ * A cached spec is revalidated with {@code If-None-Match} / {@code If-Modified-Since}. When the BFF answers
+ * {@code 304} or sends a body with the same content hash (BFFs without validators), the cached operations are
+ * reused and the spec is not read again.
+ */
+@ApplicationScoped
+public class OpenApiSpecCache {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenApiSpecCache.class);
+
+    @Inject
+    TestCacheConfig config;
+
+    @Inject
+    TestAdminClientConfig adminClientConfig;
+
+    private final TtlCache<String, CachedSpec> cache = new TtlCache<>();
+
+    private record CachedSpec(String etag, String lastModified, String contentHash, List<OpenApiOperation> operations) {
+    }
+
+    /**
+     * Request of the spec, the validators are {@code null} when nothing is cached.
+     */
+    @FunctionalInterface
+    public interface SpecRequest {
+
+        RestResponse<InputStream> send(String ifNoneMatch, String ifModifiedSince);
+    }
+
+    public List<OpenApiOperation> get(String host, String path, SpecRequest request,
+            Function<byte[], List<OpenApiOperation>> reader) {
+        var key = host + "|" + path;
+        var cached = cache.getIfPresent(key);
+        var response = cached != null
+                ? request.send(cached.etag(), cached.lastModified())
+                : request.send(null, null);
+        try {
+
+            if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                log.info("OpenAPI spec {} of {} not modified", path, host);
+                cache.put(key, cached, config.spec().ttl());
+                return cached.operations();
+            }
+
+            // an error body is no spec, it is neither read nor parsed
+            if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                cache.invalidate(key);
+                throw new ServiceException("OpenAPI spec %s of %s answered with status %d"
+                        .formatted(path, host, response.getStatus()));
+            }
+
+            var content = OpenApiSpecBodyUtil.read(response, adminClientConfig.maxSpecSize());
+
+            var contentHash = hash(content);
+            List<OpenApiOperation> operations;
+            if (cached != null && contentHash.equals(cached.contentHash())) {
+                log.info("OpenAPI spec {} of {} unchanged", path, host);
+                operations = cached.operations();
+            } else {
+                operations = List.copyOf(reader.apply(content));
+            }
+            cache.put(key, new CachedSpec(response.getHeaderString(HttpHeaders.ETAG),
+                    response.getHeaderString(HttpHeaders.LAST_MODIFIED), contentHash, operations), config.spec().ttl());
+            return operations;
+        } finally {
+            response.close();
+        }
+    }
+
+    public void invalidate(String host, String path) {
+        cache.invalidate(host + "|" + path);
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new ServiceException(ex);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.tkit.onecx.test.domain.metrics.SecurityTestMetrics;
+import org.tkit.onecx.test.domain.models.TestProbeConfig;
+
+/**
+ * Concurrency limiters per BFF proxy host, shared by all test runs so that the learned limit is kept.
+ */
+@ApplicationScoped
+public class ProbeConcurrencyLimiters {
+
+    @Inject
+    TestProbeConfig probeConfig;
+
+    @Inject
+    SecurityTestMetrics securityTestMetrics;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter forHost(String host) {
+        return limiters.computeIfAbsent(host, this::create);
+    }
+
+    /**
+     * Maximum number of probes of one host that can be in flight at the same time.
+     */
+    public int maxConcurrency() {
+        var config = probeConfig.limiter();
+        return config.enabled() ? Math.max(probeConfig.concurrency(), config.maxLimit()) : probeConfig.concurrency();
+    }
+
+    private AdaptiveConcurrencyLimiter create(String host) {
+        var config = probeConfig.limiter();
+        var initial = probeConfig.concurrency();
+        var limiter = config.enabled()
+                ? new AdaptiveConcurrencyLimiter(initial, config.minLimit(), config.maxLimit(), config.backoffRatio(),
+                        config.latencyTolerance())
+                : new AdaptiveConcurrencyLimiter(initial, initial, initial, 1, Double.MAX_VALUE);
+        securityTestMetrics.registerProbeConcurrencyLimit(host, limiter::getLimit);
+        return limiter;
+    }
+}
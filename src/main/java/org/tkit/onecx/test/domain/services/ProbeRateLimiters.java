@@ -0,0 +1,57 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tkit.onecx.test.domain.models.TestProbeConfig;
+import org.tkit.onecx.test.domain.models.TestRunConfig;
+
+/**
+ * Token buckets per environment base URL, shared by all runs against the same ingress. The rate of an
+ * environment configured in {@link TestRunConfig} overrides the default rate.
+ */
+@ApplicationScoped
+public class ProbeRateLimiters {
+
+    private static final Logger log = LoggerFactory.getLogger(ProbeRateLimiters.class);
+
+    @Inject
+    TestProbeConfig probeConfig;
+
+    @Inject
+    TestRunConfig runConfig;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param url base URL of the environment without trailing slash
+     */
+    public TokenBucket forUrl(String url) {
+        return buckets.computeIfAbsent(url, this::create);
+    }
+
+    private TokenBucket create(String url) {
+        var defaults = probeConfig.rateLimit();
+        var environment = runConfig.services().values().stream()
+                .filter(e -> url.equals(normalize(e.url())))
+                .findFirst();
+        var requestsPerSecond = environment.flatMap(TestRunConfig.UrlServices::requestsPerSecond)
+                .orElse(defaults.requestsPerSecond());
+        var burst = environment.flatMap(TestRunConfig.UrlServices::burst)
+                .orElse(defaults.burst());
+        var bucket = new TokenBucket(requestsPerSecond, burst);
+        if (!bucket.isUnlimited()) {
+            log.info("Probes to {} are limited to {} requests per second with burst {}", url, requestsPerSecond, burst);
+        }
+        return bucket;
+    }
+
+    private static String normalize(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -1,60 +1,85 @@
 package org.tkit.onecx.test.domain.services;
 
-import java.net.URI;
+import java.util.List;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
-import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tkit.onecx.test.domain.clients.QuarkusAdminClient;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
 import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestAdminClientConfig;
 
-import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class QuarkusService implements BackendService {
 
     private static final Logger log = LoggerFactory.getLogger(QuarkusService.class);
 
-    public int invokeGeneric2xxEndpoint(String url) {
+    private static final String OPENAPI_PATH = "/q/openapi";
+
+    @Inject
+    OpenApiSpecCache specCache;
+
+    @Inject
+    OpenApiOperationReader operationReader;
+
+    @Inject
+    TestAdminClientConfig adminClientConfig;
+
+    private AdminClientCache<QuarkusAdminClient> clients;
+
+    public Uni<Integer> invokeGeneric2xxEndpoint(String url) {
         log.info("Testing Quarkus 2xx endpoint {}", url);
-        var client = createClient(url);
-        try (var response = client.getHealth()) {
-            return response.getStatus();
-        } catch (Exception e) {
-            log.error("Quarkus health check failed with url {}", url);
-            return 500;
-        }
+        return clients.call(url, QuarkusAdminClient::getHealth)
+                .onItem().transform(BackendService::closeAndGetStatus)
+                .onFailure().recoverWithItem(e -> {
+                    log.error("Quarkus health check failed with url {}", url);
+                    return 500;
+                });
     }
 
-    public OpenAPI getOpenApi(String url) {
-        try {
-            var data = getOpenApiSchema(url);
-            log.debug(data);
-            return parse(data);
+    public List<OpenApiOperation> getOpenApiOperations(String url) {
+        log.info("Get openapi from URL: {}", url);
+        try (var lease = clients.acquire(url)) {
+            return specCache.get(url, OPENAPI_PATH, lease.client()::getOpenApiYaml, operationReader::read);
         } catch (Exception ex) {
             throw new ServiceException(ex);
         }
     }
 
-    public String getOpenApiSchema(String url) {
+    public byte[] getOpenApiSchema(String url) {
         log.info("Get openapi schema from URL: {}", url);
-        var client = createClient(url);
-        try (var response = client.getOpenApiYaml()) {
-            return response.readEntity(String.class);
+        try (var lease = clients.acquire(url)) {
+            return OpenApiSpecBodyUtil.readAndClose(lease.client().getOpenApiYaml(null, null),
+                    adminClientConfig.maxSpecSize());
         }
     }
 
     @Override
     public String resolveOpenApiPath(String url) {
-        return "/q/openapi";
+        return OPENAPI_PATH;
+    }
+
+    @Scheduled(every = "{onecx.test.admin-client.eviction-interval}", concurrentExecution = ConcurrentExecution.SKIP)
+    void evictIdleClients() {
+        clients.evictIdle();
+    }
+
+    @PostConstruct
+    void init() {
+        clients = new AdminClientCache<>(QuarkusAdminClient.class, adminClientConfig);
     }
 
-    private QuarkusAdminClient createClient(String url) {
-        return QuarkusRestClientBuilder
-                .newBuilder()
-                .baseUri(URI.create(url))
-                .build(QuarkusAdminClient.class);
+    @PreDestroy
+    void close() {
+        clients.close();
     }
 }
@@ -46,6 +46,7 @@ public class SecurityTestScheduler {
             request.setId(UUID.randomUUID().toString());
             request.setUrl(environment.url());
             request.setService(service);
+            request.setIncremental(config.incremental().enabled());
 
             try {
                 var response = testService.execute(request);
@@ -1,23 +1,35 @@
 package org.tkit.onecx.test.domain.services;
 
-import java.net.URI;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response;
 
-import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.resteasy.reactive.RestResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.tkit.onecx.test.domain.clients.SpringBootAdminClient;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
 import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestAdminClientConfig;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.quarkus.rest.client.reactive.QuarkusRestClientBuilder;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class SpringBootService implements BackendService {
@@ -46,41 +58,67 @@ public class SpringBootService implements BackendService {
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    OpenApiSpecCache specCache;
+
+    @Inject
+    OpenApiOperationReader operationReader;
+
+    @Inject
+    TestAdminClientConfig adminClientConfig;
+
+    private AdminClientCache<SpringBootAdminClient> clients;
+
+    @Inject
+    TestCacheConfig cacheConfig;
+
+    private final TtlCache<String, String> openApiPaths = new TtlCache<>();
+
+    @Inject
+    BlockingTaskExecutor blockingTasks;
+
     @Override
-    public int invokeGeneric2xxEndpoint(String url) {
+    public Uni<Integer> invokeGeneric2xxEndpoint(String url) {
         log.info("Testing SpringBoot endpoint {}", url);
-        var client = createClient(url);
-        try (var response = client.getSwaggerUi()) {
-            return response.getStatus();
-        } catch (Exception e) {
-            log.error("SpringBoot swagger-ui check failed with url {}", url);
-            return 500;
-        }
+        return clients.call(url, SpringBootAdminClient::getSwaggerUi)
+                .onItem().transform(BackendService::closeAndGetStatus)
+                .onFailure().recoverWithItem(e -> {
+                    log.error("SpringBoot swagger-ui check failed with url {}", url);
+                    return 500;
+                });
     }
 
     @Override
-    public OpenAPI getOpenApi(String url) {
-        try {
-            var data = getOpenApiSchema(url);
-            return parse(data);
+    public List<OpenApiOperation> getOpenApiOperations(String url) {
+        log.info("Get openapi from URL: {}", url);
+        try (var lease = clients.acquire(url)) {
+            var client = lease.client();
+            String openApiPath = cachedOpenApiPath(client, url);
+            log.info("Resolved OpenAPI path: {}", openApiPath);
+            return specCache.get(url, openApiPath,
+                    (ifNoneMatch, ifModifiedSince) -> getOpenApiSpec(client, url, openApiPath, ifNoneMatch,
+                            ifModifiedSince),
+                    operationReader::read);
         } catch (Exception ex) {
             throw new ServiceException("Exception parsing or getting openApi schema, url %s".formatted(url), ex);
         }
     }
 
     @Override
-    public String getOpenApiSchema(String url) {
+    public byte[] getOpenApiSchema(String url) {
         log.info("Get openapi schema from URL: {}", url);
-        var client = createClient(url);
-        String openApiPath = resolveOpenApiPath(client, url);
-        log.info("Resolved OpenAPI path: {}", openApiPath);
-        try (var response = client.getResource(openApiPath)) {
-            return response.readEntity(String.class);
+        try (var lease = clients.acquire(url)) {
+            var client = lease.client();
+            String openApiPath = cachedOpenApiPath(client, url);
+            log.info("Resolved OpenAPI path: {}", openApiPath);
+            return OpenApiSpecBodyUtil.readAndClose(getOpenApiSpec(client, url, openApiPath, null, null),
+                    adminClientConfig.maxSpecSize());
         }
     }
 
     /**
-     * Discovers the actual OpenAPI spec path using four strategies in order:
+     * Discovers the actual OpenAPI spec path using four strategies. The first three run in parallel, the result
+     * of the strategy with the highest priority wins:
      * <ol>
      * <li><b>/api-docs/swagger-config directly</b> — first attempt; covers swagger-first setups
      * with dynamic paths like {@code /swagger-first/a4-resource-order-bff.yaml}.</li>
@@ -91,31 +129,74 @@ public class SpringBootService implements BackendService {
      * setups where the initializer is not present or has no {@code configUrl}.</li>
      * <li>Static fallback: {@value #FALLBACK_OPENAPI_PATH}</li>
      * </ol>
+     * The discovered path is cached per host until the spec request answers with an error status. The strategies
+     * use the client of the caller, so all of them are done or skipped before the method returns.
      */
     public String resolveOpenApiPath(String url) {
-        var client = createClient(url);
-        return resolveOpenApiPath(client, url);
+        try (var lease = clients.acquire(url)) {
+            return cachedOpenApiPath(lease.client(), url);
+        }
     }
 
-    // Package scope for deterministic tests without reflection.
-    String resolveOpenApiPath(SpringBootAdminClient client, String baseUrl) {
+    String cachedOpenApiPath(SpringBootAdminClient client, String baseUrl) {
+        return openApiPaths.get(baseUrl, key -> resolveOpenApiPath(client, key), path -> cacheConfig.openApiPath().ttl());
+    }
 
-        // 1. Try the well-known /api-docs/swagger-config endpoint directly (swagger-first setups).
-        var resolved = resolveFromSwaggerConfig(client, "/api-docs/swagger-config");
-        if (resolved != null) {
-            return resolved;
+    /**
+     * Requests the spec from the cached path. An error status, which the REST client throws as
+     * {@link WebApplicationException} from 400 on, drops the path so that it is discovered again on the next request.
+     */
+    private RestResponse<InputStream> getOpenApiSpec(SpringBootAdminClient client, String baseUrl, String openApiPath,
+            String ifNoneMatch, String ifModifiedSince) {
+        RestResponse<InputStream> response;
+        try {
+            response = client.getOpenApiSpec(openApiPath, ifNoneMatch, ifModifiedSince);
+        } catch (WebApplicationException ex) {
+            invalidateOpenApiPath(baseUrl, openApiPath, ex.getResponse().getStatus());
+            throw ex;
         }
-
-        // 2. Fetch swagger-initializer.js to find the configUrl (or a direct url as secondary).
-        var resolvedFromInitializer = resolveFromInitializer(client, baseUrl);
-        if (resolvedFromInitializer != null) {
-            return resolvedFromInitializer;
+        var status = response.getStatus();
+        if (status != Response.Status.OK.getStatusCode() && status != Response.Status.NOT_MODIFIED.getStatusCode()) {
+            invalidateOpenApiPath(baseUrl, openApiPath, status);
         }
+        return response;
+    }
+
+    private void invalidateOpenApiPath(String baseUrl, String openApiPath, int status) {
+        log.info("OpenAPI path {} of {} answered with status {}, discover the path again on the next request",
+                openApiPath, baseUrl, status);
+        openApiPaths.invalidate(baseUrl);
+        specCache.invalidate(baseUrl, openApiPath);
+    }
+
+    String resolveOpenApiPath(SpringBootAdminClient client, String baseUrl) {
 
-        // 3. Try the well-known springdoc swagger-config endpoint directly.
-        var resolvedFromV3 = resolveFromSwaggerConfig(client, "/v3/api-docs/swagger-config");
-        if (resolvedFromV3 != null) {
-            return resolvedFromV3;
+        // All strategies start at once, the results are taken in priority order:
+        // 1. the well-known /api-docs/swagger-config endpoint directly (swagger-first setups),
+        // 2. swagger-initializer.js with its configUrl (or a direct url as secondary),
+        // 3. the well-known springdoc swagger-config endpoint directly.
+        List<Supplier<String>> strategies = List.of(
+                () -> resolveFromSwaggerConfig(client, "/api-docs/swagger-config"),
+                () -> resolveFromInitializer(client, baseUrl),
+                () -> resolveFromSwaggerConfig(client, "/v3/api-docs/swagger-config"));
+        // The strategies use the client of the lease of the caller, none may still run when it returns.
+        var resolvedEarlier = new AtomicBoolean();
+        var results = strategies.stream()
+                .map(strategy -> startStrategy(() -> resolvedEarlier.get() ? null : strategy.get()))
+                .toList();
+
+        // The first non-null result wins as soon as all strategies with a higher priority returned nothing.
+        try {
+            for (var result : results) {
+                var resolved = result.join();
+                if (resolved != null) {
+                    return resolved;
+                }
+            }
+        } finally {
+            // strategies which did not start yet are skipped, the running ones are awaited
+            resolvedEarlier.set(true);
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).handle((ignored, ex) -> null).join();
         }
 
         // 4. Static fallback.
@@ -123,6 +204,17 @@ public class SpringBootService implements BackendService {
         return FALLBACK_OPENAPI_PATH;
     }
 
+    /**
+     * Starts the strategy on the blocking task pool, or runs it right away if the pool is saturated.
+     */
+    private CompletableFuture<String> startStrategy(Supplier<String> strategy) {
+        try {
+            return blockingTasks.supplyAsync(strategy);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.completedFuture(strategy.get());
+        }
+    }
+
     private String resolveFromInitializer(SpringBootAdminClient client, String baseUrl) {
         Response response = null;
         try {
@@ -161,7 +253,6 @@ public class SpringBootService implements BackendService {
     }
 
     @SuppressWarnings("unchecked")
-    // Package scope for deterministic tests without reflection.
     String resolveFromSwaggerConfig(SpringBootAdminClient client, String configUrl) {
         Response response = null;
         try {
@@ -207,10 +298,18 @@ public class SpringBootService implements BackendService {
         }
     }
 
-    private SpringBootAdminClient createClient(String url) {
-        return QuarkusRestClientBuilder
-                .newBuilder()
-                .baseUri(URI.create(url))
-                .build(SpringBootAdminClient.class);
+    @Scheduled(every = "{onecx.test.admin-client.eviction-interval}", concurrentExecution = ConcurrentExecution.SKIP)
+    void evictIdleClients() {
+        clients.evictIdle();
+    }
+
+    @PostConstruct
+    void init() {
+        clients = new AdminClientCache<>(SpringBootAdminClient.class, adminClientConfig);
+    }
+
+    @PreDestroy
+    void close() {
+        clients.close();
     }
 }
@@ -0,0 +1,96 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
+import org.tkit.onecx.test.domain.models.TestRequest;
+import org.tkit.onecx.test.domain.models.TestResponse;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Test runs requested through the REST APIs. Concurrent requests for the same service, URL and timeout overrides
+ * share one run, and the result of a finished run is reused for {@code onecx.test.cache.result.ttl}. A request for
+ * a fresh run neither reuses a result nor joins a run in flight, it gets a run of its own that started after the
+ * request. Every caller gets a copy of the result with the id of its own request.
+ */
+@ApplicationScoped
+public class TestRunCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(TestRunCoalescer.class);
+
+    @Inject
+    TestService testService;
+
+    @Inject
+    TestCacheConfig cacheConfig;
+
+    private final Map<RunKey, Uni<TestResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final TtlCache<RunKey, TestResponse> results = new TtlCache<>();
+
+    /**
+     * The timeout overrides of the request are part of the key, they are {@code null} when the configured timeouts
+     * apply.
+     */
+    private record RunKey(String service, String url, Duration connectTimeout, Duration responseTimeout,
+            Duration deadline) {
+
+        static RunKey of(TestRequest request) {
+            return new RunKey(request.getService(), url(request), request.getConnectTimeout(),
+                    request.getResponseTimeout(), request.getDeadline());
+        }
+    }
+
+    public Uni<TestResponse> execute(TestRequest request) {
+        return Uni.createFrom().deferred(() -> {
+            var key = RunKey.of(request);
+            if (request.isFresh()) {
+                log.info("Start fresh test run {} of service {} for url {}", request.getId(), key.service(), key.url());
+                return testService.executeAsync(request)
+                        .onItem().invoke(result -> results.put(key, result, cacheConfig.result().ttl()));
+            }
+            var cached = results.getIfPresent(key);
+            if (cached != null) {
+                log.info("Reuse cached test result {} of service {} for request {}", cached.getId(),
+                        key.service(), request.getId());
+                return Uni.createFrom().item(copy(cached, request));
+            }
+            return inFlight.computeIfAbsent(key, k -> run(k, request))
+                    .onItem().transform(result -> copy(result, request));
+        });
+    }
+
+    private Uni<TestResponse> run(RunKey key, TestRequest request) {
+        log.info("Start shared test run {} of service {} for url {}", request.getId(), key.service(), key.url());
+        return testService.executeAsync(request)
+                .onItem().invoke(result -> results.put(key, result, cacheConfig.result().ttl()))
+                .onTermination().invoke(() -> inFlight.remove(key))
+                .memoize().indefinitely();
+    }
+
+    private static TestResponse copy(TestResponse source, TestRequest request) {
+        var result = new TestResponse();
+        result.setId(request.getId());
+        result.setService(source.getService());
+        result.setUrl(source.getUrl());
+        result.setStatus(source.getStatus());
+        result.setDetailedStatus(source.getDetailedStatus());
+        result.setExecutions(new ArrayList<>(source.getExecutions()));
+        result.setWhitelistedPaths(new ArrayList<>(source.getWhitelistedPaths()));
+        return result;
+    }
+
+    private static String url(TestRequest request) {
+        var url = request.getUrl();
+        return url != null && url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -6,31 +6,36 @@ import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.Response;
 
-import org.eclipse.microprofile.openapi.models.OpenAPI;
-import org.eclipse.microprofile.openapi.models.Operation;
-import org.eclipse.microprofile.openapi.models.PathItem;
-import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
+import org.tkit.onecx.test.domain.clients.ProbeWebClient;
 import org.tkit.onecx.test.domain.models.*;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.TimeoutException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.ext.web.client.WebClientOptions;
-import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.core.buffer.Buffer;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
 import io.vertx.mutiny.ext.web.client.HttpResponse;
-import io.vertx.mutiny.ext.web.client.WebClient;
 import io.vertx.mutiny.uritemplate.UriTemplate;
 
 @ApplicationScoped
@@ -49,6 +54,9 @@ public class TestService {
     @Inject
     NginxService nginxService;
 
+    @Inject
+    NginxConfigCache nginxConfigCache;
+
     @Inject
     QuarkusService quarkusService;
 
@@ -56,15 +64,101 @@ public class TestService {
     SpringBootService springBootService;
 
     @Inject
-    Vertx vertx;
+    ProbeWebClient probeWebClient;
 
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    TestProbeConfig probeConfig;
+
+    @Inject
+    BffDetectionCache bffDetectionCache;
+
+    @Inject
+    TestTimeoutConfig timeoutConfig;
+
+    @Inject
+    ProbeConcurrencyLimiters concurrencyLimiters;
+
+    @Inject
+    ProbeRateLimiters rateLimiters;
+
+    @Inject
+    IncrementalProbeResults incrementalResults;
+
     private record EndpointCheck(String name, String path) {
     }
 
-    private record ExecutionOutcome(TestExecution.Status status, int code, Level logLevel) {
+    private record OperationProbe(String path, String proxyPath, String uri, OpenApiOperation op,
+            IncrementalProbeResults.Fingerprint fingerprint) {
+    }
+
+    private record Indexed<T>(int index, T value) {
+    }
+
+    /**
+     * Request sent by a probe, identical requests of one run are sent only once.
+     */
+    private record ProbeKey(String method, String uri, boolean followRedirects) {
+    }
+
+    private record BffRoutes(ServiceBFFTechnology serviceType, Map<String, ProxyConfiguration> routes) {
+    }
+
+    /**
+     * Circuit breaker of the host within the run and the concurrency limiter shared by all runs.
+     */
+    private record HostGuards(HostCircuitBreaker breaker, AdaptiveConcurrencyLimiter limiter) {
+    }
+
+    /**
+     * Settings of one test run: the request id, the target URL, the effective timeouts, the deadline, the
+     * rate limit of the target environment and the previous results of an incremental run ({@code null} otherwise).
+     * The status codes of the requests sent in the run are shared by all probes of the same request.
+     */
+    private record TestRun(String id, String url, Duration connectTimeout, Duration responseTimeout, Duration deadline,
+            long deadlineNanos, TokenBucket rateLimit, IncrementalProbeResults.Session incremental,
+            Map<ProbeKey, Uni<Integer>> probes) {
+
+        boolean expired() {
+            return System.nanoTime() - deadlineNanos >= 0;
+        }
+
+        Duration remaining() {
+            return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+        }
+
+        /**
+         * Response timeout of the next probe, shortened to the time left until the deadline.
+         */
+        Duration probeTimeout() {
+            var remaining = remaining();
+            if (remaining.compareTo(responseTimeout) >= 0) {
+                return responseTimeout;
+            }
+            return remaining.toMillis() > 0 ? remaining : Duration.ofMillis(1);
+        }
+
+        String skipMessage(String uri) {
+            return "Request to %s skipped: deadline of %s for the test run exceeded".formatted(uri, deadline);
+        }
+
+        String timeoutMessage() {
+            return "Request timed out: deadline of %s for the test run exceeded".formatted(deadline);
+        }
+    }
+
+    /**
+     * The request was not sent or its answer was not awaited: the deadline of the run passed, its timeout shortened
+     * by the deadline elapsed or the circuit breaker of the host opened while it waited for the limiter. It says
+     * nothing about the host and does not count for the circuit breaker or the concurrency limiter.
+     */
+    private static final class ProbeSkippedException extends RuntimeException {
+
+        ProbeSkippedException(String message) {
+            super(message);
+        }
     }
 
     private static final String ENDPOINT_HEALTH = "health";
@@ -81,20 +175,58 @@ public class TestService {
             new EndpointCheck(ENDPOINT_SWAGGER_UI, "/swagger-ui/index.html"));
 
     public TestResponse execute(TestRequest request) throws SecurityException {
+        return executeAsync(request).await().indefinitely();
+    }
 
-        var proxyPassLocations = loadProxyPassLocations(request.getService());
-        final var url = url(request);
-        var bffRoutesByHost = resolveBffRoutesByHost(proxyPassLocations);
+    /**
+     * Non-blocking variant of {@link #execute(TestRequest)}. Kubernetes and BFF admin client calls run on the
+     * worker pool, all probes are sent with the non-blocking probe web client.
+     */
+    public Uni<TestResponse> executeAsync(TestRequest request) {
+        return Uni.createFrom().deferred(() -> executeAsync(request, createTestRun(request)));
+    }
 
-        var result = initTestResponse(request);
-        bffRoutesByHost.forEach((host, routes) -> executeForHostRoutes(result, url, host, routes));
+    private Uni<TestResponse> executeAsync(TestRequest request, TestRun run) {
+        return blocking(() -> loadProxyPassLocations(request.getService()))
+                .onItem().transformToUni(this::resolveBffRoutesByHost)
+                .onItem().transformToUni(bffRoutesByHost -> mergeOrdered(List.copyOf(bffRoutesByHost.entrySet()),
+                        e -> executeForHostRoutes(request, run, e.getKey(), e.getValue().serviceType(),
+                                e.getValue().routes()),
+                        probeConfig.hostConcurrency()))
+                .onItem().transform(hostResults -> {
+                    var result = initTestResponse(request);
+                    hostResults.forEach(hostResult -> {
+                        result.getExecutions().addAll(hostResult.getExecutions());
+                        result.getWhitelistedPaths().addAll(hostResult.getWhitelistedPaths());
+                    });
+                    resolveOverallStatus(result);
+                    if (run.incremental() != null) {
+                        run.incremental().finish();
+                    }
 
-        resolveOverallStatus(result);
+                    String jsonResult = toJson(result);
+                    log.info("Security test result {}", jsonResult);
 
-        String jsonResult = toJson(result);
-        log.info("Security test result {}", jsonResult);
+                    return result;
+                });
+    }
 
-        return result;
+    /**
+     * Timeouts of the request override the configured ones. The deadline starts when the run is subscribed.
+     */
+    private TestRun createTestRun(TestRequest request) {
+        var deadline = Objects.requireNonNullElse(request.getDeadline(), timeoutConfig.deadline());
+        var url = url(request);
+        return new TestRun(request.getId(), url,
+                Objects.requireNonNullElse(request.getConnectTimeout(), timeoutConfig.connect()),
+                Objects.requireNonNullElse(request.getResponseTimeout(), timeoutConfig.response()),
+                deadline, System.nanoTime() + deadline.toNanos(), rateLimiters.forUrl(url),
+                request.isIncremental() ? incrementalResults.start(request.getService(), url) : null,
+                new ConcurrentHashMap<>());
+    }
+
+    private static <T> Uni<T> blocking(Supplier<T> supplier) {
+        return Uni.createFrom().item(supplier).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
     private List<ProxyConfiguration> loadProxyPassLocations(String service) {
@@ -108,28 +240,57 @@ public class TestService {
             throw new ServiceException("no pods found");
         }
 
-        var pod = pods.get(0);
-        var nginxConfig = k8sExecService.execCommandOnPod(pod, CMD_CONFIG);
-        if (nginxConfig == null || nginxConfig.isEmpty()) {
+        var proxyPassLocations = readProxyPassLocations(pods);
+        if (proxyPassLocations == null) {
             throw new ServiceException("no nginx config found");
         }
-
-        var proxyPassLocations = nginxService.getProxyPassLocation(nginxConfig);
         if (proxyPassLocations.isEmpty()) {
             throw new ServiceException("no proxy pass locations found");
         }
         return proxyPassLocations;
     }
 
-    private Map<String, Map<String, ProxyConfiguration>> resolveBffRoutesByHost(List<ProxyConfiguration> proxyPassLocations) {
-        Map<String, Map<String, ProxyConfiguration>> routesByHost = groupRoutesByHost(proxyPassLocations);
-        Map<String, Map<String, ProxyConfiguration>> bffRoutesByHost = findBffRoutesByHost(routesByHost);
-
-        if (bffRoutesByHost.isEmpty()) {
-            log.error("No BFF proxy configuration found");
-            throw new ServiceException("No BFF proxy configuration found");
+    /**
+     * Reads the nginx configuration from the first pod that answers in time. The pods are ordered by preference,
+     * see {@link K8sService#findPodsBySelector(Map)}. Failed exec commands and failed pod lookups of the
+     * configuration cache move on to the next pod.
+     */
+    @SuppressWarnings("java:S1168")
+    private List<ProxyConfiguration> readProxyPassLocations(List<String> pods) {
+        var attempts = Math.min(pods.size(), Math.max(1, timeoutConfig.execAttempts()));
+        ServiceException failure = null;
+        for (var pod : pods.subList(0, attempts)) {
+            try {
+                var proxyPassLocations = nginxConfigCache.get(pod, timeoutConfig.execAttempt(),
+                        (p, timeout) -> k8sExecService.execCommandOnPod(p, CMD_CONFIG, timeout,
+                                nginxService::getProxyPassLocation));
+                if (proxyPassLocations != null) {
+                    return proxyPassLocations;
+                }
+            } catch (ServiceException ex) {
+                log.warn("Reading nginx config of pod {} failed: {}", pod, ex.getMessage());
+                failure = ex;
+            } catch (KubernetesClientException ex) {
+                log.warn("Reading nginx config of pod {} failed: {}", pod, ex.getMessage());
+                failure = new ServiceException(ex);
+            }
         }
-        return bffRoutesByHost;
+        if (failure != null) {
+            throw failure;
+        }
+        return null;
+    }
+
+    private Uni<Map<String, BffRoutes>> resolveBffRoutesByHost(List<ProxyConfiguration> proxyPassLocations) {
+        Map<String, Map<String, ProxyConfiguration>> routesByHost = groupRoutesByHost(proxyPassLocations);
+        return findBffRoutesByHost(routesByHost)
+                .onItem().transform(bffRoutesByHost -> {
+                    if (bffRoutesByHost.isEmpty()) {
+                        log.error("No BFF proxy configuration found");
+                        throw new ServiceException("No BFF proxy configuration found");
+                    }
+                    return bffRoutesByHost;
+                });
     }
 
     private TestResponse initTestResponse(TestRequest request) {
@@ -142,27 +303,42 @@ public class TestService {
         return result;
     }
 
+    /**
+     * Execute all tests of one BFF host. The returned response only carries the executions and whitelisted
+     * paths of this host and is merged into the overall result by the caller.
+     */
     @SuppressWarnings("java:S3655")
-    private void executeForHostRoutes(TestResponse result, String url, String host, Map<String, ProxyConfiguration> routes) {
-        //null safe here, we already check service type is not null during detection if service is BFF
-        var serviceType = deteremineServiceType(host);
-        log.info("Determined service type {} for host {}", serviceType, host);
+    private Uni<TestResponse> executeForHostRoutes(TestRequest request, TestRun run, String host,
+            ServiceBFFTechnology serviceType, Map<String, ProxyConfiguration> routes) {
+        var result = initTestResponse(request);
         //there must be at least one route so no null check necessary
         ProxyConfiguration fallbackPC = routes.values().stream().findFirst().get();
         log.info("Proxy pass locations found for host {} and serviceType {} -> {}", host, serviceType, routes.keySet());
+        var guards = new HostGuards(createCircuitBreaker(host), concurrencyLimiters.forHost(host));
 
-        testGenericBffEndpoints(result, url, host, routes, fallbackPC, serviceType);
-        executeOpenApiTestsSafely(result, url, host, routes, fallbackPC, serviceType);
+        return testGenericBffEndpoints(result, run, host, routes, fallbackPC, serviceType, guards)
+                .onItem().transformToUni(v -> executeOpenApiTestsSafely(result, run, host, routes, fallbackPC, serviceType,
+                        guards))
+                .replaceWith(result);
     }
 
-    private void testGenericBffEndpoints(TestResponse result, String url, String host,
-            Map<String, ProxyConfiguration> routes, ProxyConfiguration fallbackPC, ServiceBFFTechnology serviceType) {
-        GENERIC_BFF_ENDPOINTS.forEach(check -> testInaccessibilityOfGenericBffEndpoints(check.name(), result, url,
-                resolveProxyConfiguration(routes, fallbackPC, check.path()), check.path()));
+    private HostCircuitBreaker createCircuitBreaker(String host) {
+        var config = probeConfig.circuitBreaker();
+        return new HostCircuitBreaker(host, config.failureThreshold(), config.openDuration());
+    }
 
-        String openApiPath = resolveOpenApiPath(host, serviceType);
-        testInaccessibilityOfGenericBffEndpoints("openapi", result, url,
-                resolveProxyConfiguration(routes, fallbackPC, openApiPath), openApiPath);
+    private Uni<Void> testGenericBffEndpoints(TestResponse result, TestRun run, String host,
+            Map<String, ProxyConfiguration> routes, ProxyConfiguration fallbackPC, ServiceBFFTechnology serviceType,
+            HostGuards guards) {
+        return blocking(() -> resolveOpenApiPath(host, serviceType))
+                .onItem().transformToUni(openApiPath -> {
+                    var checks = new ArrayList<>(GENERIC_BFF_ENDPOINTS);
+                    checks.add(new EndpointCheck("openapi", openApiPath));
+                    return executeOrdered(checks, check -> testInaccessibilityOfGenericBffEndpoints(check.name(), run,
+                            resolveProxyConfiguration(routes, fallbackPC, check.path()), check.path(), guards));
+                })
+                .invoke(executions -> result.getExecutions().addAll(executions))
+                .replaceWithVoid();
     }
 
     private String resolveOpenApiPath(String host, ServiceBFFTechnology serviceType) {
@@ -171,27 +347,31 @@ public class TestService {
                 : springBootService.resolveOpenApiPath(host);
     }
 
-    private OpenAPI getOpenApi(String host, ServiceBFFTechnology serviceType) {
+    private List<OpenApiOperation> getOpenApiOperations(TestRun run, String host, ServiceBFFTechnology serviceType) {
+        if (run.expired()) {
+            throw new ServiceException(run.skipMessage(host));
+        }
         return ServiceBFFTechnology.QUARKUS == serviceType
-                ? quarkusService.getOpenApi(host)
-                : springBootService.getOpenApi(host);
+                ? quarkusService.getOpenApiOperations(host)
+                : springBootService.getOpenApiOperations(host);
     }
 
-    private void executeOpenApiTestsSafely(TestResponse result, String url, String host,
-            Map<String, ProxyConfiguration> routes, ProxyConfiguration fallbackPC, ServiceBFFTechnology serviceType) {
-        try {
-            log.info("OpenAPI location path: {}, proxy host: {}, proxy path: {}",
-                    fallbackPC.getLocation(),
-                    fallbackPC.getProxyHost(), fallbackPC.getProxyPath());
-
-            var openapi = getOpenApi(host, serviceType);
-            testOpenApi(result, url, routes, fallbackPC, openapi);
-        } catch (Exception ex) {
-            log.error("Error execute test for {} - {}, error: {}", fallbackPC.getProxyHost(),
-                    fallbackPC.getLocation(), ex.getMessage(), ex);
-            result.getExecutions().add(createExecutionError(fallbackPC.getProxyHost(),
-                    fallbackPC.getLocation(), url, ex.getMessage()));
-        }
+    private Uni<Void> executeOpenApiTestsSafely(TestResponse result, TestRun run, String host,
+            Map<String, ProxyConfiguration> routes, ProxyConfiguration fallbackPC, ServiceBFFTechnology serviceType,
+            HostGuards guards) {
+        log.info("OpenAPI location path: {}, proxy host: {}, proxy path: {}",
+                fallbackPC.getLocation(),
+                fallbackPC.getProxyHost(), fallbackPC.getProxyPath());
+
+        return blocking(() -> getOpenApiOperations(run, host, serviceType))
+                .onItem().transformToUni(operations -> testOpenApi(result, run, routes, fallbackPC, operations, guards))
+                .onFailure().recoverWithItem(ex -> {
+                    log.error("Error execute test for {} - {}, error: {}", fallbackPC.getProxyHost(),
+                            fallbackPC.getLocation(), ex.getMessage(), ex);
+                    result.getExecutions().add(createExecutionError(fallbackPC.getProxyHost(),
+                            fallbackPC.getLocation(), run.url(), ex.getMessage()));
+                    return null;
+                });
     }
 
     private void resolveOverallStatus(TestResponse result) {
@@ -223,82 +403,247 @@ public class TestService {
         return result;
     }
 
-    private Map<String, Map<String, ProxyConfiguration>> findBffRoutesByHost(
-            Map<String, Map<String, ProxyConfiguration>> routesByHost) {
-        var result = new LinkedHashMap<String, Map<String, ProxyConfiguration>>();
+    /**
+     * Keep only hosts which are a BFF. All routes of a host share the same proxy host, so the technology is
+     * detected once per host.
+     */
+    private Uni<Map<String, BffRoutes>> findBffRoutesByHost(Map<String, Map<String, ProxyConfiguration>> routesByHost) {
+        var hosts = List.copyOf(routesByHost.keySet());
+        return mergeOrdered(hosts, this::deteremineServiceType, probeConfig.hostConcurrency())
+                .onItem().transform(serviceTypes -> {
+                    var result = new LinkedHashMap<String, BffRoutes>();
+                    for (int i = 0; i < hosts.size(); i++) {
+                        var host = hosts.get(i);
+                        var serviceType = serviceTypes.get(i);
+                        if (serviceType != null) {
+                            log.info("Determined service type {} for host {}", serviceType, host);
+                            result.put(host, new BffRoutes(serviceType, routesByHost.get(host)));
+                        }
+                    }
+                    return result;
+                });
+    }
 
-        routesByHost.forEach((host, routes) -> {
-            var filtered = new LinkedHashMap<String, ProxyConfiguration>();
-            routes.forEach((key, route) -> {
-                if (isProxyHostBff(route.getProxyHost())) {
-                    filtered.put(key, route);
-                }
-            });
+    /**
+     * A failed detection is not cached, the host counts as no BFF for this run only.
+     */
+    private Uni<ServiceBFFTechnology> deteremineServiceType(String hostURI) {
+        return bffDetectionCache.get(hostURI, this::detectServiceType)
+                .onFailure().recoverWithItem(ex -> {
+                    log.warn("Service type of host {} not determined: {}", hostURI, ex.getMessage());
+                    return null;
+                });
+    }
 
-            if (!filtered.isEmpty()) {
-                result.put(host, filtered);
-            }
+    /**
+     * Fire the Quarkus and Spring Boot detection requests at once. Quarkus keeps the priority: a Quarkus answer
+     * decides right away and cancels the Spring Boot request, a positive Spring Boot answer waits for the Quarkus
+     * answer. The detection fails if the host is no BFF but one of the answers was not definite.
+     */
+    private Uni<ServiceBFFTechnology> detectServiceType(String hostURI) {
+        return Uni.createFrom().<ServiceBFFTechnology> emitter(emitter -> {
+            var race = new DetectionRace(hostURI, emitter);
+            emitter.onTermination(race::cancel);
+            race.start(isServiceType(quarkusService, hostURI), isServiceType(springBootService, hostURI));
         });
+    }
 
-        return result;
+    /**
+     * 429 and 5xx responses and failures, which the services answer as 500, may be transient and are no definite
+     * answer.
+     */
+    private Uni<Detection> isServiceType(BackendService service, String hostURI) {
+        return service.invokeGeneric2xxEndpoint(hostURI)
+                .onItem().transform(status -> {
+                    if (status == Response.Status.OK.getStatusCode()) {
+                        return Detection.FOUND;
+                    }
+                    return status == Response.Status.TOO_MANY_REQUESTS.getStatusCode()
+                            || status >= Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()
+                                    ? Detection.UNKNOWN
+                                    : Detection.NOT_FOUND;
+                })
+                .onFailure().recoverWithItem(Detection.UNKNOWN);
+    }
+
+    private enum Detection {
+        FOUND,
+        NOT_FOUND,
+        UNKNOWN
     }
 
-    private ServiceBFFTechnology deteremineServiceType(String hostURI) {
-        if (quarkusService.invokeGeneric2xxEndpoint(hostURI) == Response.Status.OK.getStatusCode()) {
-            return ServiceBFFTechnology.QUARKUS;
+    /**
+     * Answers of the Quarkus and Spring Boot detection requests of one host.
+     */
+    private static final class DetectionRace {
+
+        private final String host;
+
+        private final UniEmitter<? super ServiceBFFTechnology> emitter;
+
+        private final List<Cancellable> requests = new ArrayList<>();
+
+        private Detection quarkus;
+
+        private Detection springBoot;
+
+        private boolean done;
+
+        private DetectionRace(String host, UniEmitter<? super ServiceBFFTechnology> emitter) {
+            this.host = host;
+            this.emitter = emitter;
         }
-        if (springBootService.invokeGeneric2xxEndpoint(hostURI) == Response.Status.OK.getStatusCode()) {
-            return ServiceBFFTechnology.SPRINGBOOT;
+
+        void start(Uni<Detection> quarkusDetection, Uni<Detection> springBootDetection) {
+            track(quarkusDetection.subscribe().with(this::onQuarkus));
+            if (!isDone()) {
+                track(springBootDetection.subscribe().with(this::onSpringBoot));
+            }
         }
-        return null;
-    }
 
-    private boolean isProxyHostBff(String hostURI) {
-        return deteremineServiceType(hostURI) != null;
-    }
+        private void onQuarkus(Detection detection) {
+            synchronized (this) {
+                quarkus = detection;
+            }
+            resolve();
+        }
 
-    private void testInaccessibilityOfGenericBffEndpoints(String name, TestResponse result, String domain,
-            ProxyConfiguration pc, String path) {
-        var uri = createUri(domain, pc, path);
-        try {
-            log.info("{} path: {} proxy: {} uri: {}", name, path, pc, uri);
-            var request = WebClient
-                    .create(vertx, new WebClientOptions().setVerifyHost(false).setFollowRedirects(false).setTrustAll(true))
-                    .requestAbs(HttpMethod.GET, uri);
+        private void onSpringBoot(Detection detection) {
+            synchronized (this) {
+                springBoot = detection;
+            }
+            resolve();
+        }
+
+        private void resolve() {
+            ServiceBFFTechnology result;
+            boolean definite;
+            synchronized (this) {
+                if (done || quarkus == null || (quarkus != Detection.FOUND && springBoot == null)) {
+                    return;
+                }
+                done = true;
+                if (quarkus == Detection.FOUND) {
+                    result = ServiceBFFTechnology.QUARKUS;
+                } else if (springBoot == Detection.FOUND) {
+                    result = ServiceBFFTechnology.SPRINGBOOT;
+                } else {
+                    result = null;
+                }
+                definite = result != null || (quarkus == Detection.NOT_FOUND && springBoot == Detection.NOT_FOUND);
+            }
+            if (definite) {
+                emitter.complete(result);
+            } else {
+                emitter.fail(new ServiceException("No definite answer to the BFF detection of host " + host));
+            }
+        }
 
-            var response = request.send().await().atMost(Duration.ofSeconds(5));
-            var code = response.statusCode();
+        private synchronized boolean isDone() {
+            return done;
+        }
 
+        private void track(Cancellable request) {
+            boolean cancel;
+            synchronized (this) {
+                cancel = done;
+                if (!cancel) {
+                    requests.add(request);
+                }
+            }
+            if (cancel) {
+                request.cancel();
+            }
+        }
+
+        void cancel() {
+            List<Cancellable> pending;
+            synchronized (this) {
+                done = true;
+                pending = List.copyOf(requests);
+                requests.clear();
+            }
+            pending.forEach(Cancellable::cancel);
+        }
+    }
+
+    /**
+     * The generic checks are not short-circuited, but their connection failures and timeouts count for the
+     * circuit breaker so that an unreachable host is detected before the operation probes start.
+     */
+    private Uni<TestExecution> testInaccessibilityOfGenericBffEndpoints(String name, TestRun run,
+            ProxyConfiguration pc, String path, HostGuards guards) {
+        var uri = createUri(run.url(), pc, path);
+        if (run.expired()) {
+            log.warn("{}-test {} skipped, deadline of the test run exceeded", name, uri);
+            return Uni.createFrom().item(createExecutionError(path, pc.getLocation(), uri, run.skipMessage(uri)));
+        }
+        return Uni.createFrom().deferred(() -> {
+            log.info("{} path: {} proxy: {} uri: {}", name, path, pc, uri);
+            return sendOnce(run, new ProbeKey(HttpMethod.GET.name(), uri, false), () -> {
+                var request = probeWebClient.requestAbs(HttpMethod.GET, uri)
+                        .followRedirects(false)
+                        .connectTimeout(run.connectTimeout().toMillis());
+                return send(request, run, guards, uri, () -> true);
+            });
+        }).onItem().transform(code -> {
             var status = code >= Response.Status.BAD_REQUEST.getStatusCode() ? TestExecution.Status.OK
                     : TestExecution.Status.FAILED;
 
             log.info("{}-test {} {} {}", name, uri, code, status);
 
-            result.getExecutions().add(createExecution(path, pc.getLocation(), status, null, uri, code));
-
-        } catch (Exception ex) {
+            return createExecution(path, pc.getLocation(), status, null, uri, code);
+        }).onFailure(ProbeSkippedException.class).recoverWithItem(ex -> {
+            log.warn("{}-test {} stopped: {}", name, uri, ex.getMessage());
+            return createExecutionError(path, pc.getLocation(), uri, ex.getMessage());
+        }).onFailure().recoverWithItem(ex -> {
             log.error("Error execute {} test for {} - {}, error: {}", name, path, pc.getLocation(), ex.getMessage(), ex);
-            result.getExecutions().add(createExecution(path, pc.getLocation(), TestExecution.Status.OK, uri, ex.getMessage()));
-        }
+            return createExecution(path, pc.getLocation(), TestExecution.Status.OK, uri, ex.getMessage());
+        });
     }
 
-    private void testOpenApi(TestResponse result, String domain, Map<String, ProxyConfiguration> routes,
-            ProxyConfiguration fallbackProxyConfiguration, OpenAPI openapi) {
-        if (openapi.getPaths() == null) {
+    private Uni<Void> testOpenApi(TestResponse result, TestRun run, Map<String, ProxyConfiguration> routes,
+            ProxyConfiguration fallbackProxyConfiguration, List<OpenApiOperation> operations, HostGuards guards) {
+        if (operations.isEmpty()) {
             log.warn("No paths found in OpenAPI definition");
-            return;
+            return Uni.createFrom().voidItem();
         }
-        openapi.getPaths().getPathItems().forEach((path, item) -> {
+        var probes = new ArrayList<OperationProbe>();
+        operations.forEach(op -> {
+            var path = op.getPath();
+            if (hasXonecxNoSecurity(op)) {
+                result.getWhitelistedPaths().add(path);
+                return;
+            }
             var proxyConfiguration = resolveProxyConfiguration(routes, fallbackProxyConfiguration, path);
-            var uri = createUri(domain, proxyConfiguration, path);
-            item.getOperations()
-                    .forEach((method, op) -> {
-                        log.info("Test operation {} for path {}", op.getOperationId(), path);
-                        execute(result, uri, path, proxyConfiguration.getLocation(), method, op);
-                    }
-
-                    );
+            var uri = createUri(run.url(), proxyConfiguration, path);
+            probes.add(new OperationProbe(path, proxyConfiguration.getLocation(), uri, op,
+                    IncrementalProbeResults.Fingerprint.of(proxyConfiguration.getProxyHost(), path, op.getMethod(),
+                            proxyConfiguration)));
         });
+        return executeOrdered(probes, probe -> executeIncremental(run, probe, guards))
+                .invoke(executions -> result.getExecutions().addAll(executions))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Send probes of one host in parallel. The number of requests in flight is limited by the concurrency limiter
+     * of the host. Probes complete in any order, the executions are returned in the order of the given items.
+     */
+    private <T> Uni<List<TestExecution>> executeOrdered(List<T> items, Function<T, Uni<TestExecution>> probe) {
+        return mergeOrdered(items, probe, concurrencyLimiters.maxConcurrency());
+    }
+
+    private static <T, R> Uni<List<R>> mergeOrdered(List<T> items, Function<T, Uni<R>> mapper, int concurrency) {
+        return Multi.createFrom().range(0, items.size())
+                .onItem().transformToUni(index -> mapper.apply(items.get(index))
+                        .onItem().transform(value -> new Indexed<>(index, value)))
+                .merge(concurrency)
+                .collect().asList()
+                .onItem().transform(values -> values.stream()
+                        .sorted(Comparator.comparingInt(Indexed::index))
+                        .map(Indexed::value)
+                        .toList());
     }
 
     private ProxyConfiguration resolveProxyConfiguration(Map<String, ProxyConfiguration> routes,
@@ -319,88 +664,187 @@ public class TestService {
         return "/" + key;
     }
 
-    private boolean hasXonecxNoSecurity(Operation op, String path) {
-        if (op.getExtensions() != null
-                && op.getExtensions().containsKey("x-onecx")) {
-
-            Object xOnecx = op.getExtensions().get("x-onecx");
-            if (xOnecx instanceof Map) {
-                // x-onecx is a Map
-                Map<String, String> xOnecxExtensions = (Map<String, String>) xOnecx;
-                if (xOnecxExtensions.containsKey("security")
-                        && "none".equalsIgnoreCase(xOnecxExtensions.get("security"))) {
-                    log.info("Ignored operation: {} for path {} due to x-onecx security: none configuration",
-                            op.getOperationId(), path);
-                    return true;
-                }
-            }
+    private boolean hasXonecxNoSecurity(OpenApiOperation op) {
+        if ("none".equalsIgnoreCase(op.getSecurity())) {
+            log.info("Ignored operation: {} for path {} due to x-onecx security: none configuration",
+                    op.getOperationId(), op.getPath());
+            return true;
         }
         return false;
     }
 
-    private void execute(TestResponse result, String uri, String path, String proxyPath, PathItem.HttpMethod method,
-            Operation op) {
-        try {
-            if (hasXonecxNoSecurity(op, path)) {
-                result.getWhitelistedPaths().add(path);
-                return;
+    /**
+     * In an incremental run the last result of an unchanged operation is reused unless the operation is part of
+     * the sample probed again in this run.
+     */
+    private Uni<TestExecution> executeIncremental(TestRun run, OperationProbe probe, HostGuards guards) {
+        var incremental = run.incremental();
+        if (incremental == null) {
+            return execute(run, probe, guards);
+        }
+        var previous = incremental.reuse(probe.fingerprint());
+        if (previous != null) {
+            log.debug("Reuse last result {} of operation {} for path {}", previous.getStatus(),
+                    probe.op().getOperationId(), probe.path());
+            return Uni.createFrom().item(previous);
+        }
+        return execute(run, probe, guards)
+                .invoke(execution -> incremental.record(probe.fingerprint(), execution));
+    }
+
+    private Uni<TestExecution> execute(TestRun run, OperationProbe probe, HostGuards guards) {
+        return Uni.createFrom().deferred(() -> {
+            if (run.expired()) {
+                logProbeResult(Level.WARN, TestExecution.Status.ERROR, probe, -1);
+                return Uni.createFrom().item(createExecutionError(probe.path(), probe.proxyPath(), probe.uri(),
+                        run.skipMessage(probe.uri())));
+            }
+            log.info("Test operation {} for path {}", probe.op().getOperationId(), probe.path());
+            HttpRequest<Buffer> request;
+            try {
+                request = createRequest(run, probe);
+            } catch (Exception ex) {
+                return Uni.createFrom()
+                        .item(createExecutionError(probe.path(), probe.proxyPath(), probe.uri(), ex.getMessage()));
             }
+            var response = sendOnce(run, new ProbeKey(probe.op().getMethod(), probe.uri(), true), () -> {
+                var breaker = guards.breaker();
+                var openings = breaker.openings();
+                return breaker.tryAcquire()
+                        ? send(request, run, guards, probe.uri(), () -> breaker.openings() == openings)
+                        : null;
+            });
+            if (response == null) {
+                logProbeResult(Level.WARN, TestExecution.Status.ERROR, probe, -1);
+                return Uni.createFrom().item(createExecutionError(probe.path(), probe.proxyPath(), probe.uri(),
+                        guards.breaker().rejectionMessage(probe.uri())));
+            }
+            return executeRequest(response, probe);
+        });
+    }
 
-            var request = WebClient.create(vertx, new WebClientOptions().setVerifyHost(false).setTrustAll(true))
-                    .requestAbs(io.vertx.core.http.HttpMethod.valueOf(method.name()), UriTemplate.of(uri));
+    /**
+     * Send a request only once per run, later probes of the same method and URI get the status code or failure of
+     * the first request. Nothing is kept when the sender returns {@code null} because the request was not sent.
+     */
+    private static Uni<Integer> sendOnce(TestRun run, ProbeKey key, Supplier<Uni<HttpResponse<Buffer>>> sender) {
+        return run.probes().computeIfAbsent(key, k -> {
+            var response = sender.get();
+            return response == null ? null : response.onItem().transform(HttpResponse::statusCode).memoize().indefinitely();
+        });
+    }
+
+    private HttpRequest<Buffer> createRequest(TestRun run, OperationProbe probe) {
+        var request = probeWebClient.requestAbs(HttpMethod.valueOf(probe.op().getMethod()), UriTemplate.of(probe.uri()))
+                .connectTimeout(run.connectTimeout().toMillis());
 
-            if (op.getParameters() != null) {
-                op.getParameters().forEach(p -> {
-                    if (Parameter.In.PATH == p.getIn()) {
-                        request.setTemplateParam(p.getName(), result.getId());
+        probe.op().getPathParameters().forEach(name -> request.setTemplateParam(name, run.id()));
+        return request;
+    }
+
+    private Uni<TestExecution> executeRequest(Uni<Integer> response, OperationProbe probe) {
+        return response
+                .onItem().transform(code -> createProbeExecution(probe, code))
+                .onFailure(ProbeSkippedException.class).recoverWithItem(ex -> {
+                    logProbeResult(Level.WARN, TestExecution.Status.ERROR, probe, -1);
+                    return createExecutionError(probe.path(), probe.proxyPath(), probe.uri(), ex.getMessage());
+                })
+                .onFailure(TimeoutException.class).recoverWithItem(ex -> {
+                    logProbeResult(Level.WARN, TestExecution.Status.ERROR, probe, -1);
+                    return createExecutionError(probe.path(), probe.proxyPath(), probe.uri(),
+                            "Request timed out: " + ex.getMessage());
+                })
+                .onFailure().recoverWithItem(ex -> {
+                    logProbeResult(Level.ERROR, TestExecution.Status.ERROR, probe, -1);
+                    return createExecutionError(probe.path(), probe.proxyPath(), probe.uri(), ex.getMessage());
+                });
+    }
+
+    /**
+     * Send the request once the rate limit of the environment and the concurrency limiter of the host allow it.
+     * The request is skipped if the deadline of the run passes while it waits, or if it is no longer
+     * {@code permitted} once the limiter lets it through; its rate limit token is given back.
+     * 429 and 5xx responses, failures and timeouts make the limiter back off; connection failures and timeouts
+     * also count for the circuit breaker. Skipped requests and timeouts shortened by the deadline count for neither.
+     */
+    private Uni<HttpResponse<Buffer>> send(HttpRequest<Buffer> request, TestRun run, HostGuards guards, String uri,
+            BooleanSupplier permitted) {
+        var rateLimit = run.rateLimit();
+        return rateLimit.acquire(run.remaining())
+                .onItem().transformToUni(acquired -> {
+                    if (!acquired) {
+                        return skip(run, uri);
+                    }
+                    if (run.expired()) {
+                        rateLimit.release();
+                        return skip(run, uri);
+                    }
+                    return guards.limiter().limit(() -> {
+                        if (run.expired()) {
+                            rateLimit.release();
+                            return skip(run, uri);
+                        }
+                        if (!permitted.getAsBoolean()) {
+                            rateLimit.release();
+                            return Uni.createFrom().failure(
+                                    new ProbeSkippedException(guards.breaker().rejectionMessage(uri)));
+                        }
+                        return sendWithin(request, run);
+                    }, TestService::isOverloaded, ProbeSkippedException.class::isInstance);
+                })
+                .onItem().invoke(response -> guards.breaker().onSuccess())
+                .onFailure().invoke(ex -> {
+                    if (ex instanceof ProbeSkippedException) {
+                        guards.breaker().onSkipped();
+                    } else {
+                        guards.breaker().onFailure(ex.getMessage());
                     }
                 });
-            }
+    }
 
-            ExecutionOutcome outcome = executeRequest(result, request, path, proxyPath, uri);
-            log.atLevel(outcome.logLevel()).log("Security test result:{}  method: {} uri: {}  httpCode: {}", outcome.status(),
-                    method, uri, outcome.code());
+    private static Uni<HttpResponse<Buffer>> skip(TestRun run, String uri) {
+        return Uni.createFrom().failure(new ProbeSkippedException(run.skipMessage(uri)));
+    }
 
-        } catch (Exception ex) {
-            result.getExecutions().add(createExecutionError(path, proxyPath, uri, ex.getMessage()));
+    private static Uni<HttpResponse<Buffer>> sendWithin(HttpRequest<Buffer> request, TestRun run) {
+        var timeout = run.probeTimeout();
+        var response = request.send().ifNoItem().after(timeout);
+        if (timeout.compareTo(run.responseTimeout()) < 0) {
+            return response.failWith(() -> new ProbeSkippedException(run.timeoutMessage()));
         }
+        return response.fail();
+    }
+
+    private static boolean isOverloaded(HttpResponse<Buffer> response) {
+        return response.statusCode() == Response.Status.TOO_MANY_REQUESTS.getStatusCode()
+                || response.statusCode() >= Response.Status.INTERNAL_SERVER_ERROR.getStatusCode();
     }
 
-    private ExecutionOutcome executeRequest(TestResponse result, HttpRequest<Buffer> request, String path, String proxyPath,
-            String uri) {
+    private TestExecution createProbeExecution(OperationProbe probe, int code) {
         TestExecution.Status status;
         Level resultLogLevel = Level.INFO;
-        int code = -1;
-        try {
-            HttpResponse<Buffer> response = request.send().await().atMost(Duration.ofSeconds(5));
-            code = response.statusCode();
-
-            String detailedStatus = null;
-            switch (code) {
-                case 401:
-                    status = TestExecution.Status.OK;
-                    break;
-                case 403:
-                    status = TestExecution.Status.WARNING;
-                    detailedStatus = "Expected 401 response but got 403. This may indicate that the endpoint is protected but not properly configured to return 401 for unauthorized access.";
-                    break;
-                default:
-                    status = TestExecution.Status.FAILED;
-                    detailedStatus = "Expected 401 response but got " + code;
-                    resultLogLevel = Level.ERROR;
-                    break;
-            }
-            result.getExecutions().add(createExecution(path, proxyPath, status, detailedStatus, uri, code));
-        } catch (TimeoutException ex) {
-            status = TestExecution.Status.ERROR;
-            resultLogLevel = Level.WARN;
-            result.getExecutions().add(createExecutionError(path, proxyPath, uri, "Request timed out: " + ex.getMessage()));
-        } catch (Exception ex) {
-            status = TestExecution.Status.ERROR;
-            resultLogLevel = Level.ERROR;
-            result.getExecutions().add(createExecutionError(path, proxyPath, uri, ex.getMessage()));
-        }
-        return new ExecutionOutcome(status, code, resultLogLevel);
+        String detailedStatus = null;
+        switch (code) {
+            case 401:
+                status = TestExecution.Status.OK;
+                break;
+            case 403:
+                status = TestExecution.Status.WARNING;
+                detailedStatus = "Expected 401 response but got 403. This may indicate that the endpoint is protected but not properly configured to return 401 for unauthorized access.";
+                break;
+            default:
+                status = TestExecution.Status.FAILED;
+                detailedStatus = "Expected 401 response but got " + code;
+                resultLogLevel = Level.ERROR;
+                break;
+        }
+        logProbeResult(resultLogLevel, status, probe, code);
+        return createExecution(probe.path(), probe.proxyPath(), status, detailedStatus, probe.uri(), code);
+    }
+
+    private void logProbeResult(Level level, TestExecution.Status status, OperationProbe probe, int code) {
+        log.atLevel(level).log("Security test result:{}  method: {} uri: {}  httpCode: {}", status,
+                probe.op().getMethod(), probe.uri(), code);
     }
 
     private TestExecution createExecutionError(String path, String proxyPath, String uri, String error) {
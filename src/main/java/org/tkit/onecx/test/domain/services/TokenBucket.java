@@ -0,0 +1,86 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.time.Duration;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Token bucket for the probes sent to one environment. The bucket holds up to {@code burst} tokens and is
+ * refilled with {@code requestsPerSecond}. A probe that finds the bucket empty reserves the next token and is
+ * delayed until the token is available, without blocking a thread. The debt of reserved tokens is limited by the
+ * maximum wait of the probes, tokens of probes that are not sent are given back.
+ */
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double tokensPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param requestsPerSecond refill rate, {@code 0} or less disables the limit
+     * @param burst maximum number of tokens
+     */
+    public TokenBucket(double requestsPerSecond, int burst) {
+        this.tokensPerNano = requestsPerSecond / NANOS_PER_SECOND;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public boolean isUnlimited() {
+        return tokensPerNano <= 0;
+    }
+
+    /**
+     * Completes with {@code true} as soon as a token is available. Completes right away with {@code false} and
+     * without taking a token if the token would not be available within {@code maxWait}. The token of a cancelled
+     * wait is given back.
+     */
+    public Uni<Boolean> acquire(Duration maxWait) {
+        if (isUnlimited()) {
+            return Uni.createFrom().item(true);
+        }
+        return Uni.createFrom().deferred(() -> {
+            var waitNanos = reserve(maxWait.toNanos());
+            if (waitNanos <= 0) {
+                return Uni.createFrom().item(waitNanos == 0);
+            }
+            return Uni.createFrom().item(true).onItem().delayIt().by(Duration.ofNanos(waitNanos))
+                    .onCancellation().invoke(this::release);
+        });
+    }
+
+    /**
+     * Take a token, the bucket may go into debt, but not further than {@code maxWaitNanos} ahead.
+     *
+     * @return nanoseconds until the taken token is covered, {@code -1} if no token was taken because it would not
+     *         be covered within {@code maxWaitNanos}
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        refill();
+        var waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Give back a token that was taken for a request which was not sent.
+     */
+    synchronized void release() {
+        refill();
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    private void refill() {
+        var now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,70 @@
+package org.tkit.onecx.test.domain.services;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Small in-memory cache with a time-to-live per entry. Values must not be {@code null}, wrap negative results in
+ * an {@link java.util.Optional}. A zero or negative time-to-live disables caching of the value.
+ */
+public final class TtlCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private record Entry<V>(V value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * @return the cached value or {@code null} when the key is missing or expired
+     */
+    public V getIfPresent(K key) {
+        var entry = entries.get(key);
+        if (entry == null || entry.isExpired(System.nanoTime())) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Return the cached value or load and cache it. Concurrent callers may load the same key more than once,
+     * the last loaded value wins.
+     *
+     * @param key cache key
+     * @param loader loads the value for a missing or expired key
+     * @param ttl time-to-live of the loaded value
+     * @return cached or loaded value
+     */
+    public V get(K key, Function<K, V> loader, Function<V, Duration> ttl) {
+        var cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        var value = loader.apply(key);
+        put(key, value, ttl.apply(value));
+        return value;
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            entries.remove(key);
+            return;
+        }
+        var now = System.nanoTime();
+        entries.values().removeIf(e -> e.isExpired(now));
+        entries.put(key, new Entry<>(value, now + ttl.toNanos()));
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -10,20 +10,20 @@ import org.jboss.resteasy.reactive.RestResponse;
 import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 import org.tkit.onecx.test.domain.metrics.SecurityTestMetrics;
 import org.tkit.onecx.test.domain.models.ServiceException;
-import org.tkit.onecx.test.domain.models.TestResponse;
 import org.tkit.onecx.test.domain.services.*;
 import org.tkit.onecx.test.operator.rs.v1.mappers.ExceptionMapper;
 import org.tkit.onecx.test.operator.rs.v1.mappers.TestMapper;
 
 import gen.org.tkit.onecx.test.operator.rs.v1.TestApiService;
 import gen.org.tkit.onecx.test.operator.rs.v1.model.*;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 @Transactional(value = Transactional.TxType.NOT_SUPPORTED)
 public class TestRestController implements TestApiService {
 
     @Inject
-    TestService testService;
+    TestRunCoalescer testRunCoalescer;
 
     @Inject
     ExceptionMapper exceptionMapper;
@@ -35,16 +35,15 @@ public class TestRestController implements TestApiService {
     SecurityTestMetrics securityTestMetrics;
 
     @Override
-    public Response executeSecurityTest(SecurityTestRequestDTO dto) {
+    public Uni<Response> executeSecurityTest(SecurityTestRequestDTO dto) {
         var req = testMapper.map(dto);
-        try {
-            TestResponse response = testService.execute(req);
-            securityTestMetrics.incrementRequest(req.getService(), response.getStatus().name());
-            return Response.ok(testMapper.create(response)).build();
-        } catch (ServiceException ex) {
-            securityTestMetrics.incrementRequest(req.getService(), "ERROR");
-            throw ex;
-        }
+        return testRunCoalescer.execute(req)
+                .onItem().transform(response -> {
+                    securityTestMetrics.incrementRequest(req.getService(), response.getStatus().name());
+                    return Response.ok(testMapper.create(response)).build();
+                })
+                .onFailure(ServiceException.class)
+                .invoke(ex -> securityTestMetrics.incrementRequest(req.getService(), "ERROR"));
     }
 
     @ServerExceptionMapper
@@ -13,6 +13,11 @@ import gen.org.tkit.onecx.test.operator.rs.v1.model.SecurityTestResponseDTO;
 @Mapper
 public interface TestMapper {
 
+    @Mapping(target = "connectTimeout", ignore = true)
+    @Mapping(target = "responseTimeout", ignore = true)
+    @Mapping(target = "deadline", ignore = true)
+    @Mapping(target = "incremental", ignore = true)
+    @Mapping(target = "fresh", ignore = true)
     TestRequest map(SecurityTestRequestDTO dto);
 
     @Mapping(target = "removeExecutionsItem", ignore = true)
@@ -8,19 +8,20 @@ import jakarta.ws.rs.core.Response;
 import org.jboss.resteasy.reactive.RestResponse;
 import org.jboss.resteasy.reactive.server.ServerExceptionMapper;
 import org.tkit.onecx.test.domain.models.ServiceException;
-import org.tkit.onecx.test.domain.services.TestService;
+import org.tkit.onecx.test.domain.services.TestRunCoalescer;
 import org.tkit.onecx.test.operator.ui.mappers.UIExceptionMapper;
 import org.tkit.onecx.test.operator.ui.mappers.UIMapper;
 
 import gen.org.tkit.onecx.test.operator.ui.UiApiService;
 import gen.org.tkit.onecx.test.operator.ui.model.ProblemDetailResponseDTO;
 import gen.org.tkit.onecx.test.operator.ui.model.TestRequestDTO;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class UIController implements UiApiService {
 
     @Inject
-    TestService testService;
+    TestRunCoalescer testRunCoalescer;
 
     @Inject
     UIMapper mapper;
@@ -29,10 +30,10 @@ public class UIController implements UiApiService {
     UIExceptionMapper exceptionMapper;
 
     @Override
-    public Response executeTest(TestRequestDTO testRequestDTO) {
+    public Uni<Response> executeTest(TestRequestDTO testRequestDTO) {
         var req = mapper.map(testRequestDTO);
-        var data = testService.execute(req);
-        return Response.ok(mapper.create(data)).build();
+        return testRunCoalescer.execute(req)
+                .onItem().transform(data -> Response.ok(mapper.create(data)).build());
     }
 
     @ServerExceptionMapper
@@ -1,5 +1,7 @@
 package org.tkit.onecx.test.operator.ui.mappers;
 
+import java.time.Duration;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.tkit.onecx.test.domain.models.TestRequest;
@@ -12,8 +14,13 @@ import gen.org.tkit.onecx.test.operator.ui.model.TestResponseStatusDTO;
 @Mapper
 public interface UIMapper {
 
+    @Mapping(target = "incremental", ignore = true)
     TestRequest map(TestRequestDTO dto);
 
+    default Duration millis(Long value) {
+        return value == null ? null : Duration.ofMillis(value);
+    }
+
     @Mapping(target = "removeExecutionsItem", ignore = true)
     @Mapping(target = "removeWhitelistedPathsItem", ignore = true)
     TestResponseDTO create(TestResponse data);
@@ -0,0 +1,89 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.tkit.onecx.test.domain.clients.ProbeWebClient;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.TestProbeConfig;
+import org.tkit.onecx.test.domain.models.TestRequest;
+import org.tkit.onecx.test.domain.models.TestTimeoutConfig;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Base of the tests which run a {@link TestService} with mocked Kubernetes, nginx, BFF admin and probe clients
+ * together with the configured probe settings, limiters and caches.
+ */
+abstract class AbstractTestServiceTest {
+
+    protected static final String SERVICE = "svc";
+
+    protected static final Map<String, String> SELECTOR = Map.of("app", SERVICE);
+
+    @Inject
+    TestProbeConfig probeConfig;
+
+    @Inject
+    BffDetectionCache bffDetectionCache;
+
+    @Inject
+    NginxConfigCache nginxConfigCache;
+
+    @Inject
+    TestTimeoutConfig timeoutConfig;
+
+    @Inject
+    ProbeConcurrencyLimiters concurrencyLimiters;
+
+    @Inject
+    ProbeRateLimiters rateLimiters;
+
+    @Inject
+    IncrementalProbeResults incrementalResults;
+
+    protected TestService createTestService() {
+        TestService service = new TestService();
+        service.k8sService = mock(K8sService.class);
+        service.k8sExecService = mock(K8sExecService.class);
+        service.nginxService = mock(NginxService.class);
+        service.quarkusService = mock(QuarkusService.class);
+        service.springBootService = mock(SpringBootService.class);
+        service.probeWebClient = mock(ProbeWebClient.class);
+        service.objectMapper = new ObjectMapper();
+        service.probeConfig = probeConfig;
+        service.bffDetectionCache = bffDetectionCache;
+        service.nginxConfigCache = nginxConfigCache;
+        service.timeoutConfig = timeoutConfig;
+        service.concurrencyLimiters = concurrencyLimiters;
+        service.rateLimiters = rateLimiters;
+        service.incrementalResults = incrementalResults;
+        return service;
+    }
+
+    /**
+     * The service {@link #SERVICE} with the given pods, the nginx config of the first pod proxies the locations.
+     */
+    protected static void mockProxyPassLocations(TestService service, List<String> pods,
+            ProxyConfiguration... locations) {
+        when(service.k8sService.findServiceSelector(SERVICE)).thenReturn(SELECTOR);
+        when(service.k8sService.findPodsBySelector(SELECTOR)).thenReturn(pods);
+        when(service.k8sExecService.execCommandOnPod(eq(pods.get(0)), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenReturn(List.of(locations));
+    }
+
+    protected static TestRequest createRequest(String url) {
+        TestRequest request = new TestRequest();
+        request.setId("123");
+        request.setService(SERVICE);
+        request.setUrl(url);
+        return request;
+    }
+}
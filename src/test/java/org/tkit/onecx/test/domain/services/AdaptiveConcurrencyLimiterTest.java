@@ -0,0 +1,79 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+@QuarkusTest
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void increasesLimitOnlyWhileInUse() {
+        var limiter = new AdaptiveConcurrencyLimiter(2, 1, 4, 0.5, Double.MAX_VALUE);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.limit(() -> Uni.createFrom().item(200), code -> code >= 500).await().indefinitely();
+        }
+
+        // sequential probes use one slot only, so the limit grows once and then stays
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void backsOffOnOverloadAndFailure() {
+        var limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, 0.5, 2.0);
+
+        limiter.limit(() -> Uni.createFrom().item(503), code -> code >= 500).await().indefinitely();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        limiter.limit(() -> Uni.createFrom().<Integer> failure(new RuntimeException("timeout")), code -> code >= 500)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailed();
+        assertThat(limiter.getLimit()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void keepsLimitOnIgnoredFailure() {
+        var limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, 0.5, 2.0);
+
+        limiter.limit(() -> Uni.createFrom().<Integer> failure(new IllegalStateException("skipped")),
+                code -> code >= 500, IllegalStateException.class::isInstance)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailed();
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void waitsForFreeSlotAndReleasesCancelledWaiters() {
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0.5, 2.0);
+        @SuppressWarnings("unchecked")
+        UniEmitter<? super Integer>[] first = new UniEmitter[1];
+
+        var running = limiter.limit(() -> Uni.createFrom().<Integer> emitter(e -> first[0] = e), code -> false)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        var cancelled = limiter.limit(() -> Uni.createFrom().item(1), code -> false)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        var waiting = limiter.limit(() -> Uni.createFrom().item(2), code -> false)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        cancelled.cancel();
+        waiting.assertNotTerminated();
+
+        first[0].complete(0);
+
+        running.assertCompleted().assertItem(0);
+        waiting.assertCompleted().assertItem(2);
+        cancelled.assertNotTerminated();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
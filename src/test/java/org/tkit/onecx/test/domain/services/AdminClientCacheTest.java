@@ -0,0 +1,145 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+
+@QuarkusTest
+class AdminClientCacheTest {
+
+    static class TestClient implements Closeable {
+
+        final String url;
+
+        boolean closed;
+
+        TestClient(String url) {
+            this.url = url;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    void reusesClientPerBaseUri() {
+        var created = new ArrayList<TestClient>();
+        var cache = new AdminClientCache<>(url -> add(created, new TestClient(url)), 10,
+                Duration.ofMinutes(1).toNanos());
+
+        var first = use(cache, "http://host-a");
+
+        assertThat(use(cache, "http://host-a")).isSameAs(first);
+        assertThat(use(cache, "http://host-b")).isNotSameAs(first);
+        assertThat(created).hasSize(2);
+    }
+
+    @Test
+    void closesLeastRecentlyUsedClientWhenFull() throws InterruptedException {
+        var cache = new AdminClientCache<>(TestClient::new, 2, Duration.ofMinutes(1).toNanos());
+
+        var a = use(cache, "http://host-a");
+        var b = use(cache, "http://host-b");
+        Thread.sleep(1);
+        use(cache, "http://host-a");
+        var c = use(cache, "http://host-c");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(b.closed).isTrue();
+        assertThat(a.closed).isFalse();
+        assertThat(c.closed).isFalse();
+    }
+
+    @Test
+    void closesIdleClients() throws InterruptedException {
+        var cache = new AdminClientCache<>(TestClient::new, 10, 0);
+
+        var a = use(cache, "http://host-a");
+        Thread.sleep(1);
+        var b = use(cache, "http://host-b");
+
+        assertThat(a.closed).isTrue();
+        assertThat(b.closed).isFalse();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void closesIdleClientsWithoutFurtherAcquire() throws InterruptedException {
+        var cache = new AdminClientCache<>(TestClient::new, 10, Duration.ofMillis(50).toNanos());
+
+        var a = use(cache, "http://host-a");
+        Thread.sleep(100);
+        cache.evictIdle();
+
+        assertThat(a.closed).isTrue();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void closesAllClients() {
+        var cache = new AdminClientCache<>(TestClient::new, 10, Duration.ofMinutes(1).toNanos());
+        var a = use(cache, "http://host-a");
+        var b = use(cache, "http://host-b");
+
+        cache.close();
+
+        assertThat(List.of(a.closed, b.closed)).containsOnly(true);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void closesEvictedClientAfterLastLease() throws InterruptedException {
+        var cache = new AdminClientCache<>(TestClient::new, 10, 0);
+
+        var lease = cache.acquire("http://host-a");
+        var a = lease.client();
+        Thread.sleep(1);
+        var b = use(cache, "http://host-b");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(a.closed).isFalse();
+
+        lease.close();
+        lease.close();
+
+        assertThat(a.closed).isTrue();
+        assertThat(b.closed).isFalse();
+        assertThat(use(cache, "http://host-a")).isNotSameAs(a);
+    }
+
+    @Test
+    void closesClientAfterCallTerminates() {
+        var cache = new AdminClientCache<>(TestClient::new, 10, Duration.ofMinutes(1).toNanos());
+        var clients = new ArrayList<TestClient>();
+
+        var call = cache.call("http://host-a", client -> {
+            clients.add(client);
+            cache.close();
+            return Uni.createFrom().item(client.closed);
+        });
+
+        assertThat(call.await().indefinitely()).isFalse();
+        assertThat(clients).singleElement().satisfies(client -> assertThat(client.closed).isTrue());
+    }
+
+    private static TestClient use(AdminClientCache<TestClient> cache, String url) {
+        try (var lease = cache.acquire(url)) {
+            return lease.client();
+        }
+    }
+
+    private static TestClient add(List<TestClient> created, TestClient client) {
+        created.add(client);
+        return client;
+    }
+}
@@ -0,0 +1,85 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.tkit.onecx.test.domain.models.ServiceBFFTechnology;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+
+@QuarkusTest
+class BffDetectionCacheTest {
+
+    @Test
+    void cachesDetectedHostUntilInvalidated() {
+        var cache = createCache(Duration.ofMinutes(10), Duration.ofMinutes(1));
+        var detector = new CountingDetector(ServiceBFFTechnology.QUARKUS);
+
+        assertThat(cache.get("http://bff-host", detector).await().indefinitely()).isEqualTo(ServiceBFFTechnology.QUARKUS);
+        assertThat(cache.get("http://bff-host", detector).await().indefinitely()).isEqualTo(ServiceBFFTechnology.QUARKUS);
+        assertThat(detector.calls).hasValue(1);
+
+        cache.invalidate("http://bff-host");
+        cache.get("http://bff-host", detector).await().indefinitely();
+        assertThat(detector.calls).hasValue(2);
+    }
+
+    @Test
+    void cachesNonBffHostWithNegativeTtl() throws InterruptedException {
+        var cache = createCache(Duration.ofMinutes(10), Duration.ofMillis(100));
+        var detector = new CountingDetector(null);
+
+        assertThat(cache.get("http://not-a-bff", detector).await().indefinitely()).isNull();
+        assertThat(cache.get("http://not-a-bff", detector).await().indefinitely()).isNull();
+        assertThat(detector.calls).hasValue(1);
+
+        Thread.sleep(150);
+        cache.get("http://not-a-bff", detector).await().indefinitely();
+        assertThat(detector.calls).hasValue(2);
+    }
+
+    @Test
+    void detectsAgainWhenTtlIsZero() {
+        var cache = createCache(Duration.ZERO, Duration.ZERO);
+        var detector = new CountingDetector(ServiceBFFTechnology.SPRINGBOOT);
+
+        cache.get("http://bff-host", detector).await().indefinitely();
+        cache.get("http://bff-host", detector).await().indefinitely();
+
+        assertThat(detector.calls).hasValue(2);
+    }
+
+    private static BffDetectionCache createCache(Duration ttl, Duration negativeTtl) {
+        var cache = new BffDetectionCache();
+        cache.config = mock(TestCacheConfig.class, RETURNS_DEEP_STUBS);
+        when(cache.config.detection().ttl()).thenReturn(ttl);
+        when(cache.config.detection().negativeTtl()).thenReturn(negativeTtl);
+        return cache;
+    }
+
+    private static final class CountingDetector implements Function<String, Uni<ServiceBFFTechnology>> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private final ServiceBFFTechnology result;
+
+        private CountingDetector(ServiceBFFTechnology result) {
+            this.result = result;
+        }
+
+        @Override
+        public Uni<ServiceBFFTechnology> apply(String host) {
+            calls.incrementAndGet();
+            return Uni.createFrom().item(result);
+        }
+    }
+}
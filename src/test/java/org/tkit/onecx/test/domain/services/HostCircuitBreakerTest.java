@@ -0,0 +1,104 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class HostCircuitBreakerTest {
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        var breaker = new HostCircuitBreaker("http://bff:8080", 2, Duration.ofMinutes(1));
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure("connection refused");
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure("connection refused");
+
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.rejectionMessage("http://ui/mfe/api"))
+                .contains("http://ui/mfe/api", "http://bff:8080", "2 consecutive", "connection refused");
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        var breaker = new HostCircuitBreaker("http://bff:8080", 2, Duration.ofMinutes(1));
+
+        breaker.onFailure("timeout");
+        breaker.onSuccess();
+        breaker.onFailure("timeout");
+
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void halfOpenTrialClosesOrReopens() {
+        var breaker = new HostCircuitBreaker("http://bff:8080", 1, Duration.ZERO);
+
+        breaker.onFailure("timeout");
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onFailure("timeout");
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.OPEN);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void countsOpeningsSoQueuedProbesCanBeSkipped() {
+        var breaker = new HostCircuitBreaker("http://bff:8080", 1, Duration.ofMinutes(1));
+
+        // permitted while closed, then the breaker opens before the probe gets a free slot
+        assertThat(breaker.tryAcquire()).isTrue();
+        var openings = breaker.openings();
+        breaker.onFailure("timeout");
+
+        assertThat(breaker.openings()).isNotEqualTo(openings);
+        breaker.onSkipped();
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void disabledWithZeroThreshold() {
+        var breaker = new HostCircuitBreaker("http://bff:8080", 0, Duration.ofMinutes(1));
+
+        breaker.onFailure("timeout");
+        breaker.onFailure("timeout");
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void skippedTrialAllowsNextTrial() {
+        var breaker = new HostCircuitBreaker("http://bff:8080", 1, Duration.ZERO);
+
+        breaker.onFailure("timeout");
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSkipped();
+
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void skippedProbeDoesNotCountAsFailure() {
+        var breaker = new HostCircuitBreaker("http://bff:8080", 1, Duration.ofMinutes(1));
+
+        breaker.onSkipped();
+
+        assertThat(breaker.getState()).isEqualTo(HostCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,92 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.TestExecution;
+import org.tkit.onecx.test.domain.services.IncrementalProbeResults.Fingerprint;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class IncrementalProbeResultsTest {
+
+    private static final ProxyConfiguration PC = new ProxyConfiguration("/mfe/test/api", "http://bff-host", "/test",
+            "/test");
+
+    @Inject
+    IncrementalProbeResults results;
+
+    @Test
+    void reusesUnchangedResultsAndProbesEachOperationOncePerInterval() {
+        var service = UUID.randomUUID().toString();
+        var fingerprints = new ArrayList<Fingerprint>();
+        for (int i = 0; i < 50; i++) {
+            fingerprints.add(Fingerprint.of("http://bff-host", "/items/" + i, "GET", PC));
+        }
+
+        var first = results.start(service, "https://domain.example");
+        fingerprints.forEach(fp -> assertThat(first.reuse(fp)).isNull());
+        fingerprints.forEach(fp -> first.record(fp, execution(fp.path(), TestExecution.Status.OK)));
+        first.finish();
+
+        var probed = new HashMap<Fingerprint, Integer>();
+        for (int run = 0; run < 10; run++) {
+            var session = results.start(service, "https://domain.example");
+            for (var fp : fingerprints) {
+                var reused = session.reuse(fp);
+                if (reused == null) {
+                    probed.merge(fp, 1, Integer::sum);
+                    session.record(fp, execution(fp.path(), TestExecution.Status.OK));
+                } else {
+                    assertThat(reused.getPath()).isEqualTo(fp.path());
+                    assertThat(reused.getStatus()).isEqualTo(TestExecution.Status.OK);
+                }
+            }
+            session.finish();
+        }
+
+        assertThat(probed).hasSize(fingerprints.size());
+        assertThat(probed.values()).containsOnly(1);
+    }
+
+    @Test
+    void probesNewChangedAndFailedOperationsAgain() {
+        var service = UUID.randomUUID().toString();
+        var unchanged = IntStream.range(0, 20)
+                .mapToObj(i -> Fingerprint.of("http://bff-host", "/a/" + i, "GET", PC))
+                .toList();
+        var failed = Fingerprint.of("http://bff-host", "/error", "GET", PC);
+
+        var first = results.start(service, "https://domain.example");
+        unchanged.forEach(fp -> first.record(fp, execution(fp.path(), TestExecution.Status.FAILED)));
+        first.record(failed, execution("/error", TestExecution.Status.ERROR));
+        first.finish();
+
+        var second = results.start(service, "https://domain.example");
+        var changedRoute = Fingerprint.of("http://bff-host", "/a/0", "GET",
+                new ProxyConfiguration("/mfe/other/api", "http://bff-host", "/test", "/test"));
+
+        assertThat(second.reuse(changedRoute)).isNull();
+        assertThat(second.reuse(Fingerprint.of("http://bff-host", "/a/0", "POST", PC))).isNull();
+        assertThat(second.reuse(failed)).isNull();
+        assertThat(unchanged.stream().filter(fp -> second.reuse(fp) != null).count()).isGreaterThanOrEqualTo(10);
+        assertThat(results.start(service, "https://other.example").reuse(unchanged.get(0))).isNull();
+    }
+
+    private static TestExecution execution(String path, TestExecution.Status status) {
+        var e = new TestExecution();
+        e.setPath(path);
+        e.setStatus(status);
+        e.setCode(401);
+        return e;
+    }
+}
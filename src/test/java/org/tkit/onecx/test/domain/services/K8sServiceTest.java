@@ -0,0 +1,121 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.PodStatusBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class K8sServiceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void servesLookupsFromSyncedInformers() {
+        var client = mock(KubernetesClient.class, RETURNS_DEEP_STUBS);
+        when(client.getNamespace()).thenReturn("default");
+        var service = createService(client);
+
+        var ui = pod("ui-1", Map.of("app", "ui", "tier", "web"));
+        var other = pod("other-1", Map.of("app", "ui", "tier", "db"));
+
+        service.services = mock(SharedIndexInformer.class, RETURNS_DEEP_STUBS);
+        when(service.services.hasSynced()).thenReturn(true);
+        when(service.services.getStore().getByKey("default/ui"))
+                .thenReturn(new ServiceBuilder().withNewMetadata().withName("ui").endMetadata()
+                        .withNewSpec().withSelector(Map.of("app", "ui", "tier", "web")).endSpec().build());
+
+        service.pods = mock(SharedIndexInformer.class, RETURNS_DEEP_STUBS);
+        when(service.pods.hasSynced()).thenReturn(true);
+        when(service.pods.getStore().getByKey("default/ui-1")).thenReturn(ui);
+        when(service.pods.getIndexer().byIndex(K8sService.LABEL_INDEX, "app=ui")).thenReturn(List.of(ui, other));
+        when(service.pods.getIndexer().byIndex(K8sService.LABEL_INDEX, "tier=web")).thenReturn(List.of(ui));
+
+        var selector = service.findServiceSelector("ui");
+        assertThat(selector).containsEntry("app", "ui").containsEntry("tier", "web");
+        assertThat(service.findPodsBySelector(selector)).containsExactly("ui-1");
+        assertThat(service.findPod("ui-1")).isSameAs(ui);
+
+        verify(client, never()).services();
+        verify(client, never()).pods();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fallsBackToApiServerWhenInformerIsNotSynced() {
+        var client = mock(KubernetesClient.class, RETURNS_DEEP_STUBS);
+        when(client.getNamespace()).thenReturn("default");
+        var service = createService(client);
+        service.services = mock(SharedIndexInformer.class);
+        service.pods = mock(SharedIndexInformer.class);
+
+        Service live = new ServiceBuilder().withNewMetadata().withName("ui").endMetadata()
+                .withNewSpec().withSelector(Map.of("app", "ui")).endSpec().build();
+        when(client.services().withName("ui").get()).thenReturn(live);
+
+        assertThat(service.findServiceSelector("ui")).containsEntry("app", "ui");
+        verify(service.services, never()).getStore();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ordersPodsReadyAndMostRecentlyStartedFirst() {
+        var client = mock(KubernetesClient.class, RETURNS_DEEP_STUBS);
+        var service = createService(client);
+        service.pods = mock(SharedIndexInformer.class, RETURNS_DEEP_STUBS);
+        when(service.pods.hasSynced()).thenReturn(true);
+
+        var labels = Map.of("app", "ui");
+        var pending = pod("pending", labels);
+        var terminating = ready(pod("terminating", labels), "2024-01-03T00:00:00Z");
+        terminating.getMetadata().setDeletionTimestamp("2024-01-04T00:00:00Z");
+        var readyOld = ready(pod("ready-old", labels), "2024-01-01T00:00:00Z");
+        var readyNew = ready(pod("ready-new", labels), "2024-01-02T00:00:00Z");
+        when(service.pods.getIndexer().byIndex(K8sService.LABEL_INDEX, "app=ui"))
+                .thenReturn(List.of(pending, terminating, readyOld, readyNew));
+
+        assertThat(service.findPodsBySelector(labels))
+                .containsExactly("ready-new", "ready-old", "pending", "terminating");
+    }
+
+    @Test
+    void indexesPodsByEachLabel() {
+        assertThat(K8sService.labelIndex(pod("ui-1", Map.of("app", "ui", "tier", "web"))))
+                .containsExactlyInAnyOrder("app=ui", "tier=web");
+        assertThat(K8sService.labelIndex(new PodBuilder().withNewMetadata().withName("plain").endMetadata().build()))
+                .isEmpty();
+    }
+
+    private static Pod ready(Pod pod, String startTime) {
+        pod.setStatus(new PodStatusBuilder()
+                .withStartTime(startTime)
+                .addNewCondition().withType("Ready").withStatus("True").endCondition()
+                .build());
+        return pod;
+    }
+
+    private static Pod pod(String name, Map<String, String> labels) {
+        return new PodBuilder().withNewMetadata().withName(name).withLabels(labels).endMetadata().build();
+    }
+
+    private static K8sService createService(KubernetesClient client) {
+        var service = new K8sService();
+        service.client = client;
+        return service;
+    }
+}
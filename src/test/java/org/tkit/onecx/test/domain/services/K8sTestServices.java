@@ -0,0 +1,28 @@
+package org.tkit.onecx.test.domain.services;
+
+import org.tkit.onecx.test.domain.models.TestTimeoutConfig;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+
+/**
+ * Kubernetes services on a mocked client for the tests outside of this package, wired through the package-private
+ * fields like the tests of this package do. Lookups go to the client because no informers are started.
+ */
+public final class K8sTestServices {
+
+    private K8sTestServices() {
+    }
+
+    public static K8sExecService k8sExecService(KubernetesClient client, TestTimeoutConfig timeoutConfig,
+            BlockingTaskExecutor blockingTasks) {
+        var k8sService = new K8sService();
+        k8sService.client = client;
+
+        var service = new K8sExecService();
+        service.client = client;
+        service.k8sService = k8sService;
+        service.timeoutConfig = timeoutConfig;
+        service.blockingTasks = blockingTasks;
+        return service;
+    }
+}
@@ -0,0 +1,171 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class NginxConfigCacheTest {
+
+    private static final List<ProxyConfiguration> LOCATIONS = List
+            .of(new ProxyConfiguration("/mfe/test/api", "http://bff-host", "/test", "/test"));
+
+    private static final Duration ATTEMPT = Duration.ofSeconds(3);
+
+    @Test
+    void reusesConfigUntilPodRevisionChanges() {
+        var cache = createCache(false);
+        when(cache.k8sService.findPodRevision("pod-1")).thenReturn("uid-1/hash/image-1", "uid-1/hash/image-1",
+                "uid-2/hash/image-1");
+        var loads = new AtomicInteger();
+        BiFunction<String, Duration, List<ProxyConfiguration>> loader = (pod, timeout) -> {
+            loads.incrementAndGet();
+            return LOCATIONS;
+        };
+
+        assertThat(cache.get("pod-1", ATTEMPT, loader)).isEqualTo(LOCATIONS);
+        assertThat(cache.get("pod-1", ATTEMPT, loader)).isEqualTo(LOCATIONS);
+        assertThat(loads).hasValue(1);
+
+        // replaced pod with a new UID
+        assertThat(cache.get("pod-1", ATTEMPT, loader)).isEqualTo(LOCATIONS);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void doesNotCacheMissingConfigOrUnknownPods() {
+        var cache = createCache(false);
+        when(cache.k8sService.findPodRevision("pod-1")).thenReturn("uid-1//");
+        var loads = new AtomicInteger();
+
+        assertThat(cache.get("pod-1", ATTEMPT, (pod, timeout) -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(cache.get("pod-1", ATTEMPT, (pod, timeout) -> {
+            loads.incrementAndGet();
+            return List.of();
+        })).isEmpty();
+        assertThat(cache.get("unknown-pod", ATTEMPT, (pod, timeout) -> {
+            loads.incrementAndGet();
+            return LOCATIONS;
+        })).isEqualTo(LOCATIONS);
+        assertThat(cache.get("unknown-pod", ATTEMPT, (pod, timeout) -> {
+            loads.incrementAndGet();
+            return LOCATIONS;
+        })).isEqualTo(LOCATIONS);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void verifiesCachedConfigWithChecksum() {
+        var cache = createCache(true);
+        when(cache.k8sService.findPodRevision("pod-1")).thenReturn("uid-1/hash/image-1");
+        when(cache.k8sExecService.execCommandOnPod(eq("pod-1"), any(Duration.class),
+                eq(NginxConfigCache.CMD_CONFIG_CHECKSUM)))
+                .thenReturn("abc  -\n", "abc  -\n", "def  -\n")
+                .thenThrow(new ServiceException("exec failed"));
+        var loads = new AtomicInteger();
+        BiFunction<String, Duration, List<ProxyConfiguration>> loader = (pod, timeout) -> {
+            loads.incrementAndGet();
+            return LOCATIONS;
+        };
+
+        cache.get("pod-1", ATTEMPT, loader);
+        cache.get("pod-1", ATTEMPT, loader);
+        assertThat(loads).hasValue(1);
+
+        // changed content and a failed checksum both read the config again
+        cache.get("pod-1", ATTEMPT, loader);
+        assertThat(loads).hasValue(2);
+        cache.get("pod-1", ATTEMPT, loader);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void readsConfigAgain_whenChecksumCannotBeComputed() {
+        var cache = createCache(true);
+        when(cache.k8sService.findPodRevision("pod-1")).thenReturn("uid-1/hash/image-1");
+        when(cache.k8sExecService.execCommandOnPod(eq("pod-1"), any(Duration.class),
+                eq(NginxConfigCache.CMD_CONFIG_CHECKSUM)))
+                .thenThrow(new ServiceException("exec failed"));
+        var loads = new AtomicInteger();
+        BiFunction<String, Duration, List<ProxyConfiguration>> loader = (pod, timeout) -> {
+            loads.incrementAndGet();
+            return LOCATIONS;
+        };
+
+        cache.get("pod-1", ATTEMPT, loader);
+        cache.get("pod-1", ATTEMPT, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void checksumTakesItsTimeFromTheAttempt() {
+        var cache = createCache(true);
+        when(cache.k8sService.findPodRevision("pod-1")).thenReturn("uid-1/hash/image-1");
+        when(cache.k8sExecService.execCommandOnPod(eq("pod-1"), any(Duration.class),
+                eq(NginxConfigCache.CMD_CONFIG_CHECKSUM)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(200);
+                    return "abc  -\n";
+                });
+        var loaderTimeout = new AtomicReference<Duration>();
+
+        cache.get("pod-1", Duration.ofMillis(500), (pod, timeout) -> {
+            loaderTimeout.set(timeout);
+            return LOCATIONS;
+        });
+        assertThat(loaderTimeout.get()).isLessThanOrEqualTo(Duration.ofMillis(300));
+
+        // nothing is left of the attempt after the checksum
+        assertThatThrownBy(() -> cache.get("pod-1", Duration.ofMillis(100), (pod, timeout) -> LOCATIONS))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("pod-1");
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        var cache = createCache(false);
+        when(cache.config.nginxConfig().ttl()).thenReturn(Duration.ZERO);
+        var loads = new AtomicInteger();
+        BiFunction<String, Duration, List<ProxyConfiguration>> loader = (pod, timeout) -> {
+            loads.incrementAndGet();
+            return LOCATIONS;
+        };
+
+        cache.get("pod-1", ATTEMPT, loader);
+        cache.get("pod-1", ATTEMPT, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private static NginxConfigCache createCache(boolean verify) {
+        var cache = new NginxConfigCache();
+        cache.config = mock(TestCacheConfig.class, RETURNS_DEEP_STUBS);
+        when(cache.config.nginxConfig().ttl()).thenReturn(Duration.ofMinutes(10));
+        when(cache.config.nginxConfig().verify()).thenReturn(verify);
+        cache.k8sService = mock(K8sService.class);
+        cache.k8sExecService = mock(K8sExecService.class);
+        return cache;
+    }
+}
@@ -222,7 +222,7 @@ class NginxServiceTest {
 
     @Test
     void getProxyPassLocation_setsNullHostAndEmptyPathWhenUriIsMalformed() {
-        // http://[invalid passes all regex guards (PATTERN_PROXY_PASS and PATTERN_LOCATION_PROXY_PASS both match)
+        // http://[invalid passes the PATTERN_HTTP_PROXY_PASS guard
         // but URI.create() throws on the unclosed IPv6 literal, exercising the catch branches
         // in both getProxyHost (→ null) and getProxyPath (→ "").
         var config = """
@@ -241,4 +241,55 @@ class NginxServiceTest {
         assertThat(result.get(0).getProxyPath()).isEmpty();
         assertThat(result.get(0).getServicePathKey()).isNull();
     }
+
+    @Test
+    void getProxyPassLocation_ignoresCommentsAndBracesInQuotesAndVariables() {
+        var config = """
+                # configuration file /etc/nginx/conf.d/default.conf:
+                server {
+                # location /commented { proxy_pass http://commented-bff/api; }
+                location /quoted {
+                add_header Content-Security-Policy "default-src 'self'; script-src {nonce}";
+                set $target "${scheme}://ignored";
+                proxy_pass http://test-bff-app/api/quoted;
+                }
+                location "/quoted-path" {
+                proxy_pass http://test-bff-app/api/quoted-path;
+                }
+                }
+                """;
+
+        var result = nginxService.getProxyPassLocation(config);
+
+        assertThat(result).extracting("location").containsExactly("/quoted", "/quoted-path");
+        assertThat(result).extracting("proxyPath").containsExactly("/api/quoted", "/api/quoted-path");
+    }
+
+    @Test
+    void getProxyPassLocation_usesOwnProxyPassOfNestedLocations() {
+        var config = """
+                http {
+                server {
+                location /outer {
+                location /outer/inner {
+                proxy_pass http://inner-bff/api/inner;
+                }
+                proxy_pass http://outer-bff/api/outer;
+                }
+                }
+                server {
+                listen 8080;
+                location /second-server {
+                proxy_pass http://second-bff:8080/api;
+                }
+                }
+                }
+                """;
+
+        var result = nginxService.getProxyPassLocation(config);
+
+        assertThat(result).extracting("location").containsExactly("/outer", "/outer/inner", "/second-server");
+        assertThat(result).extracting("proxyHost")
+                .containsExactly("http://outer-bff", "http://inner-bff", "http://second-bff:8080");
+    }
 }
@@ -0,0 +1,98 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ServiceException;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class OpenApiOperationReaderTest {
+
+    @Inject
+    OpenApiOperationReader reader;
+
+    @Test
+    void readsOperationsFromYaml() {
+        var yaml = """
+                openapi: 3.0.1
+                info:
+                  title: reader test
+                  version: 1.0.0
+                paths:
+                  /items/{id}:
+                    parameters:
+                      - name: tenant
+                        in: path
+                    post:
+                      operationId: updateItem
+                      x-onecx:
+                        security: none
+                    get:
+                      operationId: getItem
+                      parameters:
+                        - name: id
+                          in: path
+                          schema:
+                            type: string
+                        - name: filter
+                          in: query
+                        - $ref: '#/components/parameters/Other'
+                      responses:
+                        '200':
+                          description: ok
+                components:
+                  schemas:
+                    Item:
+                      type: object
+                      properties:
+                        id:
+                          type: string
+                """;
+
+        var operations = reader.read(yaml);
+
+        assertThat(operations).extracting(OpenApiOperation::getMethod).containsExactly("GET", "POST");
+        var get = operations.get(0);
+        assertThat(get.getPath()).isEqualTo("/items/{id}");
+        assertThat(get.getOperationId()).isEqualTo("getItem");
+        assertThat(get.getPathParameters()).containsExactly("id", "tenant");
+        assertThat(get.getSecurity()).isNull();
+        var post = operations.get(1);
+        assertThat(post.getOperationId()).isEqualTo("updateItem");
+        assertThat(post.getPathParameters()).containsExactly("tenant");
+        assertThat(post.getSecurity()).isEqualTo("none");
+    }
+
+    @Test
+    void readsOperationsFromJson() {
+        var json = """
+                {"openapi":"3.0.1","components":{"schemas":{"Item":{"type":"object"}}},
+                 "paths":{"/a":{"delete":{"operationId":"deleteA","x-onecx":{"security":"NONE"}}},
+                          "/b":{"put":{"operationId":"putB","parameters":[{"in":"path","name":"b"}]}}}}
+                """;
+
+        var operations = reader.read(json);
+
+        assertThat(operations).extracting(OpenApiOperation::getPath).containsExactly("/a", "/b");
+        assertThat(operations.get(0).getSecurity()).isEqualTo("NONE");
+        assertThat(operations.get(1).getMethod()).isEqualTo("PUT");
+        assertThat(operations.get(1).getPathParameters()).containsExactly("b");
+    }
+
+    @Test
+    void returnsEmptyListWithoutPaths() {
+        assertThat(reader.read("openapi: 3.0.1\ninfo:\n  title: empty\n")).isEmpty();
+    }
+
+    @Test
+    void rejectsEmptyAndInvalidSpecs() {
+        assertThatThrownBy(() -> reader.read("")).isInstanceOf(ServiceException.class);
+        assertThatThrownBy(() -> reader.read("{this is not valid json!!!")).isInstanceOf(ServiceException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.ws.rs.core.HttpHeaders;
+
+import org.jboss.resteasy.reactive.RestResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.tkit.onecx.test.domain.models.ServiceException;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class OpenApiSpecBodyUtilTest {
+
+    private static final byte[] SPEC = "openapi: 3.0.1\npaths: {}\n".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void readsPlainBody() {
+        assertThat(OpenApiSpecBodyUtil.read(response(SPEC, null, -1), 1024)).isEqualTo(SPEC);
+    }
+
+    @Test
+    void readsGzipBody() throws IOException {
+        assertThat(OpenApiSpecBodyUtil.read(response(gzip(SPEC), "gzip", -1), 1024)).isEqualTo(SPEC);
+    }
+
+    @Test
+    void readsMissingBodyAsEmpty() {
+        assertThat(OpenApiSpecBodyUtil.read(response(null, null, -1), 1024)).isEmpty();
+    }
+
+    @Test
+    void rejectsBodyAboveMaxSize() {
+        assertThatThrownBy(() -> OpenApiSpecBodyUtil.read(response(SPEC, null, -1), 10))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("maximum size of 10 bytes");
+    }
+
+    @Test
+    void rejectsContentLengthAboveMaxSize() {
+        var response = response(SPEC, null, 5000);
+
+        assertThatThrownBy(() -> OpenApiSpecBodyUtil.read(response, 1024)).isInstanceOf(ServiceException.class);
+        Mockito.verify(response, Mockito.never()).getEntity();
+    }
+
+    @Test
+    void stopsReadingAfterMaxSize() {
+        var read = new AtomicLong();
+        var endless = new InputStream() {
+            @Override
+            public int read() {
+                read.incrementAndGet();
+                return 'a';
+            }
+        };
+        @SuppressWarnings("unchecked")
+        RestResponse<InputStream> response = Mockito.mock(RestResponse.class);
+        Mockito.when(response.getLength()).thenReturn(-1);
+        Mockito.when(response.getEntity()).thenReturn(endless);
+
+        assertThatThrownBy(() -> OpenApiSpecBodyUtil.readAndClose(response, 1024)).isInstanceOf(ServiceException.class);
+        assertThat(read.get()).isLessThanOrEqualTo(1025);
+        Mockito.verify(response).close();
+    }
+
+    @Test
+    void rejectsDecompressedBodyAboveMaxSize() throws IOException {
+        var large = new byte[100_000];
+
+        assertThatThrownBy(() -> OpenApiSpecBodyUtil.read(response(gzip(large), "gzip", -1), 50_000))
+                .isInstanceOf(ServiceException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RestResponse<InputStream> response(byte[] body, String contentEncoding, int length) {
+        RestResponse<InputStream> response = Mockito.mock(RestResponse.class);
+        Mockito.when(response.getLength()).thenReturn(length);
+        Mockito.when(response.getHeaderString(HttpHeaders.CONTENT_ENCODING)).thenReturn(contentEncoding);
+        Mockito.when(response.getEntity()).thenReturn(body == null ? null : new ByteArrayInputStream(body));
+        return response;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+}
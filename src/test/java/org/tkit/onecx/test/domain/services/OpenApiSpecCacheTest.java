@@ -0,0 +1,105 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.RestResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ServiceException;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class OpenApiSpecCacheTest {
+
+    @Inject
+    OpenApiSpecCache specCache;
+
+    @Test
+    void revalidatesWithEtag() {
+        var host = "http://" + UUID.randomUUID();
+        var parsed = new AtomicInteger();
+        var validators = new ArrayList<String>();
+
+        var first = specCache.get(host, "/q/openapi", (etag, modified) -> {
+            validators.add(etag);
+            return response(200, "openapi: 3.0.1", "\"v1\"");
+        }, content -> parse(parsed));
+
+        var second = specCache.get(host, "/q/openapi", (etag, modified) -> {
+            validators.add(etag);
+            return response(304, null, null);
+        }, content -> parse(parsed));
+
+        assertThat(second).isSameAs(first);
+        assertThat(parsed).hasValue(1);
+        assertThat(validators).containsExactly(null, "\"v1\"");
+    }
+
+    @Test
+    void reusesModelForSameContentWithoutValidators() {
+        var host = "http://" + UUID.randomUUID();
+        var parsed = new AtomicInteger();
+        List<String> bodies = List.of("openapi: 3.0.1", "openapi: 3.0.1", "openapi: 3.0.2");
+        var results = new ArrayList<List<OpenApiOperation>>();
+
+        bodies.forEach(body -> results.add(specCache.get(host, "v3/api-docs",
+                (etag, modified) -> response(200, body, null), content -> parse(parsed))));
+
+        assertThat(results.get(1)).isSameAs(results.get(0));
+        assertThat(results.get(2)).isNotSameAs(results.get(0));
+        assertThat(parsed).hasValue(2);
+    }
+
+    @Test
+    void doesNotCacheErrorResponses() {
+        var host = "http://" + UUID.randomUUID();
+        var parsed = new AtomicInteger();
+
+        assertThatThrownBy(() -> specCache.get(host, "v3/api-docs", (etag, modified) -> response(500, "error", null),
+                content -> parse(parsed)))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("500");
+        assertThat(parsed).hasValue(0);
+
+        var validators = new ArrayList<String>();
+        specCache.get(host, "v3/api-docs", (etag, modified) -> {
+            validators.add(etag);
+            return response(200, "openapi: 3.0.1", null);
+        }, content -> parse(parsed));
+
+        assertThat(parsed).hasValue(1);
+        assertThat(validators).containsExactly((String) null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RestResponse<InputStream> response(int status, String body, String etag) {
+        RestResponse<InputStream> response = Mockito.mock(RestResponse.class);
+        Mockito.when(response.getStatus()).thenReturn(status);
+        Mockito.when(response.getStatusInfo()).thenReturn(Response.Status.fromStatusCode(status));
+        Mockito.when(response.getLength()).thenReturn(-1);
+        Mockito.when(response.getEntity())
+                .thenReturn(body == null ? null : new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        Mockito.when(response.getHeaderString(HttpHeaders.ETAG)).thenReturn(etag);
+        return response;
+    }
+
+    private static List<OpenApiOperation> parse(AtomicInteger parsed) {
+        parsed.incrementAndGet();
+        return List.of(new OpenApiOperation("/items", "GET", "getItems", List.of(), null));
+    }
+}
@@ -6,7 +6,13 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
@@ -14,18 +20,28 @@ import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.Response;
 
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.resteasy.reactive.RestResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.MediaType;
+import org.mockserver.verify.VerificationTimes;
 import org.tkit.onecx.test.domain.clients.SpringBootAdminClient;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
 import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestAdminClientConfig;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
 import org.tkit.onecx.test.operator.AbstractTest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @QuarkusTest
 @SuppressWarnings("java:S125")
@@ -34,6 +50,18 @@ class SpringBootServiceTest extends AbstractTest {
     @Inject
     SpringBootService springBootService;
 
+    @Inject
+    OpenApiSpecCache specCache;
+
+    @Inject
+    OpenApiOperationReader operationReader;
+
+    @Inject
+    TestAdminClientConfig adminClientConfig;
+
+    @Inject
+    BlockingTaskExecutor blockingTasks;
+
     @BeforeEach
     void resetExpectation() {
         clearExpectation(mockServerClient);
@@ -291,10 +319,10 @@ class SpringBootServiceTest extends AbstractTest {
         assertThat(result).isEqualTo("v3/api-docs");
     }
 
-    // ─── getOpenApi: ServiceException on parse failure ───────────────────────
+    // ─── getOpenApiOperations: ServiceException on parse failure ─────────────
 
     @Test
-    void getOpenApi_throwsServiceExceptionWhenResponseIsUnparseable() {
+    void getOpenApiOperations_throwsServiceExceptionWhenResponseIsUnparseable() {
         var mockUrl = mockUrl();
 
         // All swagger-config strategies fail → falls back to v3/api-docs
@@ -318,11 +346,210 @@ class SpringBootServiceTest extends AbstractTest {
                         .withContentType(MediaType.APPLICATION_JSON)
                         .withBody("{this is not valid json!!!")));
 
-        assertThatThrownBy(() -> springBootService.getOpenApi(mockUrl))
+        assertThatThrownBy(() -> springBootService.getOpenApiOperations(mockUrl))
                 .isInstanceOf(ServiceException.class)
                 .hasMessageContaining(mockUrl);
     }
 
+    // ─── resolveOpenApiPath: strategies run in parallel, priority decides ──────
+
+    @Test
+    void resolveOpenApiPath_runsStrategiesInParallelAndKeepsPriority_withoutReflection() {
+        var v3Started = new CountDownLatch(1);
+
+        SpringBootAdminClient client = new SpringBootAdminClient() {
+            @Override
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
+            }
+
+            @Override
+            public Response getSwaggerInitializer() {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+
+            @Override
+            public Response getSwaggerConfig() {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+
+            @Override
+            public Response getResource(String path) {
+                Response configResponse = Mockito.mock(Response.class);
+                Mockito.when(configResponse.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+                if ("v3/api-docs/swagger-config".equals(path)) {
+                    v3Started.countDown();
+                    Mockito.when(configResponse.readEntity(String.class)).thenReturn("{\"url\":\"/v3/api-docs\"}");
+                    return configResponse;
+                }
+                // the first strategy only answers after the third one was started and finished first
+                try {
+                    if (!v3Started.await(5, TimeUnit.SECONDS)) {
+                        return Response.status(Response.Status.NOT_FOUND).build();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                Mockito.when(configResponse.readEntity(String.class)).thenReturn("{\"url\":\"/swagger-first/bff.yaml\"}");
+                return configResponse;
+            }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
+        };
+
+        var result = springBootService.resolveOpenApiPath(client, "http://spring-host");
+
+        assertThat(result).isEqualTo("swagger-first/bff.yaml");
+    }
+
+    @Test
+    void resolveOpenApiPath_returnsOnlyWhenNoStrategyUsesTheClientAnymore() {
+        var lowerPriorityDone = new AtomicBoolean();
+
+        SpringBootAdminClient client = new SpringBootAdminClient() {
+            @Override
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
+            }
+
+            @Override
+            public Response getSwaggerInitializer() {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+
+            @Override
+            public Response getSwaggerConfig() {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+
+            @Override
+            public Response getResource(String path) {
+                Response configResponse = Mockito.mock(Response.class);
+                Mockito.when(configResponse.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+                if ("v3/api-docs/swagger-config".equals(path)) {
+                    // the strategy with the lowest priority is still running when the first one wins
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    lowerPriorityDone.set(true);
+                    Mockito.when(configResponse.readEntity(String.class)).thenReturn("{\"url\":\"/v3/api-docs\"}");
+                    return configResponse;
+                }
+                Mockito.when(configResponse.readEntity(String.class)).thenReturn("{\"url\":\"/swagger-first/bff.yaml\"}");
+                return configResponse;
+            }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
+        };
+
+        var result = springBootService.resolveOpenApiPath(client, "http://spring-host");
+
+        assertThat(result).isEqualTo("swagger-first/bff.yaml");
+        assertThat(lowerPriorityDone).isTrue();
+    }
+
+    @Test
+    void resolveOpenApiPath_runsStrategiesOutsideWorkerPool_whenCalledFromWorkerPool() {
+        var threads = ConcurrentHashMap.<String> newKeySet();
+
+        SpringBootAdminClient client = new SpringBootAdminClient() {
+            @Override
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
+            }
+
+            @Override
+            public Response getSwaggerInitializer() {
+                threads.add(Thread.currentThread().getName());
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+
+            @Override
+            public Response getSwaggerConfig() {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+
+            @Override
+            public Response getResource(String path) {
+                threads.add(Thread.currentThread().getName());
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
+        };
+
+        var result = Uni.createFrom().item(() -> springBootService.resolveOpenApiPath(client, "http://worker-host"))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertThat(result).isEqualTo("v3/api-docs");
+        assertThat(threads).isNotEmpty().allMatch(thread -> thread.startsWith("blocking-task-"));
+    }
+
+    // ─── getOpenApiOperations: discovered path cached until an error status ──
+
+    @Test
+    void getOpenApiOperations_discoversPathAgain_whenCachedPathAnswersWithError() {
+        var mockUrl = mockUrl();
+        var service = new SpringBootService();
+        service.objectMapper = new ObjectMapper();
+        service.specCache = specCache;
+        service.operationReader = operationReader;
+        service.adminClientConfig = adminClientConfig;
+        service.blockingTasks = blockingTasks;
+        service.cacheConfig = Mockito.mock(TestCacheConfig.class, Mockito.RETURNS_DEEP_STUBS);
+        Mockito.when(service.cacheConfig.openApiPath().ttl()).thenReturn(Duration.ofMinutes(1));
+        service.init();
+
+        addExpectation(mockServerClient
+                .when(request().withPath("/api-docs/swagger-config").withMethod(HttpMethod.GET))
+                .respond(response()
+                        .withStatusCode(Response.Status.OK.getStatusCode())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody("{\"url\":\"/cached/api-docs\"}")));
+        addExpectation(mockServerClient
+                .when(request().withPath("/swagger-ui/swagger-initializer.js").withMethod(HttpMethod.GET))
+                .respond(response().withStatusCode(Response.Status.NOT_FOUND.getStatusCode())));
+        addExpectation(mockServerClient
+                .when(request().withPath("/v3/api-docs/swagger-config").withMethod(HttpMethod.GET))
+                .respond(response().withStatusCode(Response.Status.NOT_FOUND.getStatusCode())));
+        // the spec is served twice, then it is gone from the cached path
+        addExpectation(mockServerClient
+                .when(request().withPath("/cached/api-docs").withMethod(HttpMethod.GET), Times.exactly(2))
+                .respond(response()
+                        .withStatusCode(Response.Status.OK.getStatusCode())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody("{\"openapi\":\"3.0.1\",\"paths\":{\"/items\":{\"get\":{}}}}")));
+        addExpectation(mockServerClient
+                .when(request().withPath("/cached/api-docs").withMethod(HttpMethod.GET))
+                .respond(response().withStatusCode(Response.Status.NOT_FOUND.getStatusCode())));
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                assertThat(service.getOpenApiOperations(mockUrl)).extracting(OpenApiOperation::getPath)
+                        .containsExactly("/items");
+            }
+            mockServerClient.verify(request().withPath("/api-docs/swagger-config"), VerificationTimes.exactly(1));
+
+            assertThatThrownBy(() -> service.getOpenApiOperations(mockUrl)).isInstanceOf(ServiceException.class);
+            assertThatThrownBy(() -> service.getOpenApiOperations(mockUrl)).isInstanceOf(ServiceException.class);
+            mockServerClient.verify(request().withPath("/api-docs/swagger-config"), VerificationTimes.exactly(2));
+        } finally {
+            service.close();
+        }
+    }
+
     // ─── helpers ─────────────────────────────────────────────────────────────
 
     private String mockUrl() {
@@ -533,8 +760,8 @@ class SpringBootServiceTest extends AbstractTest {
     void resolveOpenApiPath_catchesExceptionWhenGetSwaggerInitializerThrows_withoutReflection() {
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -551,6 +778,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 return Response.status(Response.Status.NOT_FOUND).build();
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var result = springBootService.resolveOpenApiPath(client, "http://base-url");
@@ -566,8 +798,8 @@ class SpringBootServiceTest extends AbstractTest {
 
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -584,6 +816,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 return Response.status(Response.Status.NOT_FOUND).build();
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var result = springBootService.resolveOpenApiPath(client, "http://base-url");
@@ -600,8 +837,8 @@ class SpringBootServiceTest extends AbstractTest {
 
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -618,6 +855,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 return Response.status(Response.Status.NOT_FOUND).build();
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var result = springBootService.resolveOpenApiPath(client, "http://base-url");
@@ -630,8 +872,8 @@ class SpringBootServiceTest extends AbstractTest {
     void resolveFromSwaggerConfig_catchesExceptionWhenGetResourceThrows_withoutReflection() {
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -648,6 +890,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 throw new RuntimeException("resource failed");
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var result = springBootService.resolveFromSwaggerConfig(client, "/broken/swagger-config");
@@ -663,8 +910,8 @@ class SpringBootServiceTest extends AbstractTest {
 
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -681,6 +928,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 return configResponse;
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var result = springBootService.resolveFromSwaggerConfig(client, "/broken/swagger-config");
@@ -696,8 +948,8 @@ class SpringBootServiceTest extends AbstractTest {
 
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -714,6 +966,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 return configResponse;
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var result = springBootService.resolveFromSwaggerConfig(client, "/working/swagger-config");
@@ -731,8 +988,8 @@ class SpringBootServiceTest extends AbstractTest {
 
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -749,6 +1006,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 return configResponse;
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var result = springBootService.resolveFromSwaggerConfig(client, "/working/swagger-config");
@@ -766,8 +1028,8 @@ class SpringBootServiceTest extends AbstractTest {
 
         SpringBootAdminClient client = new SpringBootAdminClient() {
             @Override
-            public Response getSwaggerUi() {
-                return Response.ok().build();
+            public Uni<Response> getSwaggerUi() {
+                return Uni.createFrom().item(Response.ok().build());
             }
 
             @Override
@@ -784,6 +1046,11 @@ class SpringBootServiceTest extends AbstractTest {
             public Response getResource(String path) {
                 return configResponse;
             }
+
+            @Override
+            public RestResponse<InputStream> getOpenApiSpec(String path, String ifNoneMatch, String ifModifiedSince) {
+                return RestResponse.status(Response.Status.NOT_FOUND);
+            }
         };
 
         var originalMapper = springBootService.objectMapper;
@@ -0,0 +1,141 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.tkit.onecx.test.domain.models.TestRequest;
+import org.tkit.onecx.test.domain.models.TestResponse;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+
+@QuarkusTest
+class TestRunCoalescerTest {
+
+    @Inject
+    TestRunCoalescer coalescer;
+
+    @InjectMock
+    TestService testService;
+
+    @Test
+    void concurrentRequestsShareOneRun() {
+        var service = UUID.randomUUID().toString();
+        when(testService.executeAsync(any(TestRequest.class))).thenAnswer(invocation -> Uni.createFrom()
+                .item(response(invocation.getArgument(0)))
+                .onItem().delayIt().by(Duration.ofMillis(200)));
+
+        var results = Uni.join().all(
+                coalescer.execute(request("first", service, "https://domain.example")),
+                coalescer.execute(request("second", service, "https://domain.example/")))
+                .andFailFast()
+                .await().atMost(Duration.ofSeconds(5));
+
+        verify(testService, times(1)).executeAsync(any(TestRequest.class));
+        assertThat(results).extracting(TestResponse::getId).containsExactly("first", "second");
+        assertThat(results).extracting(TestResponse::getStatus).containsOnly(TestResponse.Status.OK);
+    }
+
+    @Test
+    void concurrentRequestsWithDifferentTimeoutsRunSeparately() {
+        var service = UUID.randomUUID().toString();
+        when(testService.executeAsync(any(TestRequest.class))).thenAnswer(invocation -> Uni.createFrom()
+                .item(response(invocation.getArgument(0)))
+                .onItem().delayIt().by(Duration.ofMillis(200)));
+        var configured = request("first", service, "https://domain.example");
+        var shortDeadline = request("second", service, "https://domain.example");
+        shortDeadline.setDeadline(Duration.ofSeconds(1));
+        var shortResponseTimeout = request("third", service, "https://domain.example");
+        shortResponseTimeout.setResponseTimeout(Duration.ofMillis(500));
+        var sameDeadline = request("fourth", service, "https://domain.example");
+        sameDeadline.setDeadline(Duration.ofSeconds(1));
+
+        var results = Uni.join().all(
+                coalescer.execute(configured),
+                coalescer.execute(shortDeadline),
+                coalescer.execute(shortResponseTimeout),
+                coalescer.execute(sameDeadline))
+                .andFailFast()
+                .await().atMost(Duration.ofSeconds(5));
+
+        verify(testService, times(3)).executeAsync(any(TestRequest.class));
+        verify(testService, never()).executeAsync(sameDeadline);
+        assertThat(results).extracting(TestResponse::getId).containsExactly("first", "second", "third", "fourth");
+    }
+
+    @Test
+    void sequentialRequestsStartNewRunsWithoutResultCache() {
+        var service = UUID.randomUUID().toString();
+        when(testService.executeAsync(any(TestRequest.class)))
+                .thenAnswer(invocation -> Uni.createFrom().item(response(invocation.getArgument(0))));
+
+        coalescer.execute(request("first", service, "https://domain.example")).await().indefinitely();
+        var second = coalescer.execute(request("second", service, "https://domain.example")).await().indefinitely();
+
+        verify(testService, times(2)).executeAsync(any(TestRequest.class));
+        assertThat(second.getId()).isEqualTo("second");
+    }
+
+    @Test
+    void freshRequestDoesNotJoinRunInFlight() {
+        var service = UUID.randomUUID().toString();
+        when(testService.executeAsync(any(TestRequest.class))).thenAnswer(invocation -> Uni.createFrom()
+                .item(response(invocation.getArgument(0)))
+                .onItem().delayIt().by(Duration.ofMillis(200)));
+        var fresh = request("second", service, "https://domain.example");
+        fresh.setFresh(true);
+
+        var results = Uni.join().all(
+                coalescer.execute(request("first", service, "https://domain.example")),
+                coalescer.execute(fresh))
+                .andFailFast()
+                .await().atMost(Duration.ofSeconds(5));
+
+        verify(testService, times(2)).executeAsync(any(TestRequest.class));
+        verify(testService).executeAsync(fresh);
+        assertThat(results).extracting(TestResponse::getId).containsExactly("first", "second");
+    }
+
+    @Test
+    void failedRunIsNotKept() {
+        var service = UUID.randomUUID().toString();
+        when(testService.executeAsync(any(TestRequest.class)))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("run failed")))
+                .thenAnswer(invocation -> Uni.createFrom().item(response(invocation.getArgument(0))));
+
+        var failed = coalescer.execute(request("first", service, "https://domain.example"))
+                .onFailure().recoverWithNull().await().indefinitely();
+        var second = coalescer.execute(request("second", service, "https://domain.example")).await().indefinitely();
+
+        assertThat(failed).isNull();
+        assertThat(second.getStatus()).isEqualTo(TestResponse.Status.OK);
+    }
+
+    private static TestRequest request(String id, String service, String url) {
+        var request = new TestRequest();
+        request.setId(id);
+        request.setService(service);
+        request.setUrl(url);
+        return request;
+    }
+
+    private static TestResponse response(TestRequest request) {
+        var response = new TestResponse();
+        response.setId(request.getId());
+        response.setService(request.getService());
+        response.setUrl(request.getUrl());
+        response.setStatus(TestResponse.Status.OK);
+        response.setExecutions(new ArrayList<>());
+        response.setWhitelistedPaths(new ArrayList<>(List.of("/public")));
+        return response;
+    }
+}
@@ -0,0 +1,108 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.tkit.onecx.test.domain.services.TestServiceOrderingTest.mockQuarkusHost;
+import static org.tkit.onecx.test.domain.services.TestServiceOrderingTest.request;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.TestExecution;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.vertx.mutiny.uritemplate.UriTemplate;
+
+@QuarkusTest
+class TestServiceDeadlineTest extends AbstractTestServiceTest {
+
+    private static final String HOST = "http://deadline-host";
+
+    @Test
+    void execute_skipsProbes_whenDeadlineOfRequestIsExceeded() {
+        TestService service = createService();
+        // the operations are known only after the deadline of the request
+        when(service.quarkusService.resolveOpenApiPath(HOST)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return "/q/openapi";
+        });
+        var generic = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString())).thenReturn(generic);
+        var operation = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenReturn(operation);
+
+        var testRequest = createRequest("https://domain.example");
+        testRequest.setDeadline(Duration.ofMillis(100));
+        var result = service.execute(testRequest);
+
+        assertThat(result.getExecutions()).filteredOn(e -> "/items".equals(e.getPath())).singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getStatus()).isEqualTo(TestExecution.Status.ERROR);
+                    assertThat(e.getDetailedStatus())
+                            .isEqualTo("Request to %s skipped: deadline of PT0.1S for the test run exceeded"
+                                    .formatted(e.getUrl()));
+                });
+    }
+
+    @Test
+    void execute_stopsSlowProbe_atDeadlineOfRequest() {
+        TestService service = createService();
+        var generic = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString())).thenReturn(generic);
+        // slower than the configured response timeout, only the deadline of the request ends it
+        var slow = request(Duration.ofSeconds(30));
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenReturn(slow);
+
+        var testRequest = createRequest("https://domain.example");
+        testRequest.setDeadline(Duration.ofMillis(500));
+        var start = System.nanoTime();
+        var result = service.execute(testRequest);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(timeoutConfig.response());
+        assertThat(result.getExecutions()).filteredOn(e -> "/items".equals(e.getPath())).singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getStatus()).isEqualTo(TestExecution.Status.ERROR);
+                    assertThat(e.getDetailedStatus()).startsWith("Request timed out");
+                });
+    }
+
+    @Test
+    void execute_usesTimeoutsOfRequest_insteadOfConfiguredTimeouts() {
+        TestService service = createService();
+        var generic = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString())).thenReturn(generic);
+        var slow = request(Duration.ofSeconds(30));
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenReturn(slow);
+
+        var testRequest = createRequest("https://domain.example");
+        testRequest.setConnectTimeout(Duration.ofMillis(150));
+        testRequest.setResponseTimeout(Duration.ofMillis(200));
+        var start = System.nanoTime();
+        var result = service.execute(testRequest);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(timeoutConfig.response());
+        verify(slow).connectTimeout(150L);
+        verify(generic).connectTimeout(150L);
+        assertThat(result.getExecutions()).filteredOn(e -> "/items".equals(e.getPath())).singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getStatus()).isEqualTo(TestExecution.Status.ERROR);
+                    assertThat(e.getDetailedStatus()).startsWith("Request timed out");
+                });
+    }
+
+    private TestService createService() {
+        TestService service = createTestService();
+        mockProxyPassLocations(service, List.of("pod-1"), new ProxyConfiguration("/mfe/test/api", HOST, "", null));
+        mockQuarkusHost(service, HOST, List.of(new OpenApiOperation("/items", "GET", "items", List.of(), null)));
+        return service;
+    }
+}
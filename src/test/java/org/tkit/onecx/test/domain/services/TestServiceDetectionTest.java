@@ -0,0 +1,126 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.ServiceException;
+import org.tkit.onecx.test.domain.models.TestCacheConfig;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.uritemplate.UriTemplate;
+
+@QuarkusTest
+class TestServiceDetectionTest extends AbstractTestServiceTest {
+
+    @Test
+    void execute_prefersQuarkus_whenSpringBootAnswersFirstAndQuarkusIsAlsoOk() {
+        var host = "http://detection-both-host";
+        var service = createService(host);
+        when(service.quarkusService.invokeGeneric2xxEndpoint(host))
+                .thenReturn(Uni.createFrom().item(200).onItem().delayIt().by(Duration.ofMillis(200)));
+        when(service.springBootService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(200));
+
+        service.execute(createRequest("https://domain.example"));
+
+        verify(service.quarkusService).getOpenApiOperations(host);
+        verify(service.springBootService, never()).resolveOpenApiPath(host);
+    }
+
+    @Test
+    void execute_usesSpringBoot_whenQuarkusIsNotOk() {
+        var host = "http://detection-springboot-host";
+        var service = createService(host);
+        when(service.quarkusService.invokeGeneric2xxEndpoint(host))
+                .thenReturn(Uni.createFrom().item(404).onItem().delayIt().by(Duration.ofMillis(200)));
+        when(service.springBootService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(200));
+
+        service.execute(createRequest("https://domain.example"));
+
+        verify(service.springBootService).getOpenApiOperations(host);
+        verify(service.quarkusService, never()).resolveOpenApiPath(host);
+    }
+
+    @Test
+    void execute_doesNotWaitForSpringBoot_whenQuarkusIsOk() {
+        var host = "http://detection-quarkus-host";
+        var service = createService(host);
+        when(service.quarkusService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(200));
+        // never answers, the run would hang if the Spring Boot answer was awaited
+        when(service.springBootService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().nothing());
+
+        var result = service.executeAsync(createRequest("https://domain.example"))
+                .await().atMost(Duration.ofSeconds(10));
+
+        assertThat(result).isNotNull();
+        verify(service.quarkusService).getOpenApiOperations(host);
+    }
+
+    @Test
+    void execute_detectsAgain_whenDetectionWasNotDefinite() {
+        var host = "http://detection-transient-host";
+        var service = createService(host);
+        service.bffDetectionCache = new BffDetectionCache();
+        service.bffDetectionCache.config = Mockito.mock(TestCacheConfig.class, Mockito.RETURNS_DEEP_STUBS);
+        when(service.bffDetectionCache.config.detection().ttl()).thenReturn(Duration.ofMinutes(10));
+        when(service.bffDetectionCache.config.detection().negativeTtl()).thenReturn(Duration.ofMinutes(10));
+        // the first Quarkus check fails for a moment, which must not be cached as "no BFF"
+        when(service.quarkusService.invokeGeneric2xxEndpoint(host))
+                .thenReturn(Uni.createFrom().item(503), Uni.createFrom().item(200));
+        when(service.springBootService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(404));
+
+        assertThatThrownBy(() -> service.execute(createRequest("https://domain.example")))
+                .isInstanceOf(ServiceException.class);
+        verify(service.quarkusService, never()).getOpenApiOperations(host);
+
+        service.execute(createRequest("https://domain.example"));
+        verify(service.quarkusService).getOpenApiOperations(host);
+    }
+
+    @Test
+    void execute_cachesHostWithoutBff_whenBothAnswersAreDefinite() {
+        var host = "http://detection-no-bff-host";
+        var service = createService(host);
+        service.bffDetectionCache = new BffDetectionCache();
+        service.bffDetectionCache.config = Mockito.mock(TestCacheConfig.class, Mockito.RETURNS_DEEP_STUBS);
+        when(service.bffDetectionCache.config.detection().ttl()).thenReturn(Duration.ofMinutes(10));
+        when(service.bffDetectionCache.config.detection().negativeTtl()).thenReturn(Duration.ofMinutes(10));
+        when(service.quarkusService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(404));
+        when(service.springBootService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(404));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> service.execute(createRequest("https://domain.example")))
+                    .isInstanceOf(ServiceException.class);
+        }
+
+        verify(service.quarkusService, Mockito.times(1)).invokeGeneric2xxEndpoint(host);
+    }
+
+    private TestService createService(String host) {
+        var service = createTestService();
+        mockProxyPassLocations(service, List.of("pod-1"), new ProxyConfiguration("/mfe/test/api", host, "/test", "/test"));
+        var operations = List.of(new OpenApiOperation("/test/items", "GET", "op", List.of(), null));
+        when(service.quarkusService.resolveOpenApiPath(host)).thenReturn("/q/openapi");
+        when(service.quarkusService.getOpenApiOperations(host)).thenReturn(operations);
+        when(service.springBootService.resolveOpenApiPath(host)).thenReturn("/v3/api-docs");
+        when(service.springBootService.getOpenApiOperations(host)).thenReturn(operations);
+
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString()))
+                .thenThrow(new RuntimeException("generic-request-create-failed"));
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenThrow(new RuntimeException("request-abs-failed"));
+        return service;
+    }
+}
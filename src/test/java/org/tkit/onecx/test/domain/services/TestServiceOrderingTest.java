@@ -0,0 +1,102 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.TestExecution;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.ext.web.client.HttpRequest;
+import io.vertx.mutiny.ext.web.client.HttpResponse;
+import io.vertx.mutiny.uritemplate.UriTemplate;
+
+@QuarkusTest
+class TestServiceOrderingTest extends AbstractTestServiceTest {
+
+    @Test
+    void execute_keepsOperationOrder_whenProbesCompleteOutOfOrder() {
+        var host = "http://ordering-host";
+        TestService service = createTestService();
+        mockProxyPassLocations(service, List.of("pod-1"), new ProxyConfiguration("/mfe/test/api", host, "", null));
+        mockQuarkusHost(service, host, List.of(
+                new OpenApiOperation("/first", "GET", "first", List.of(), null),
+                new OpenApiOperation("/second", "POST", "second", List.of(), null),
+                new OpenApiOperation("/third", "DELETE", "third", List.of(), null)));
+
+        var generic = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString())).thenReturn(generic);
+        // the first operation answers last, the last operation first
+        var first = request(Duration.ofMillis(300));
+        var second = request(Duration.ofMillis(150));
+        var third = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenReturn(first, second, third);
+
+        var result = service.execute(createRequest("https://domain.example"));
+
+        assertThat(result.getExecutions())
+                .filteredOn(e -> List.of("/first", "/second", "/third").contains(e.getPath()))
+                .extracting(TestExecution::getPath)
+                .containsExactly("/first", "/second", "/third");
+    }
+
+    @Test
+    void execute_mergesHostResultsInRouteOrder_whenFirstHostIsSlower() {
+        var slowHost = "http://ordering-slow-host";
+        var fastHost = "http://ordering-fast-host";
+        TestService service = createTestService();
+        mockProxyPassLocations(service, List.of("pod-1"),
+                new ProxyConfiguration("/mfe/slow/api", slowHost, "/slow", "/slow"),
+                new ProxyConfiguration("/mfe/fast/api", fastHost, "/fast", "/fast"));
+        mockQuarkusHost(service, slowHost, List.of(new OpenApiOperation("/slow/items", "GET", "slow", List.of(), null)));
+        mockQuarkusHost(service, fastHost, List.of(new OpenApiOperation("/fast/items", "GET", "fast", List.of(), null)));
+        // the first host starts its probes after the second host is done
+        when(service.quarkusService.resolveOpenApiPath(slowHost)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return "/q/openapi";
+        });
+
+        var generic = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString())).thenReturn(generic);
+        var operation = request(Duration.ZERO);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenReturn(operation);
+
+        var result = service.execute(createRequest("https://domain.example"));
+
+        var proxies = result.getExecutions().stream().map(TestExecution::getProxy).toList();
+        assertThat(proxies).containsOnly("/mfe/slow/api", "/mfe/fast/api");
+        assertThat(proxies.lastIndexOf("/mfe/slow/api")).isLessThan(proxies.indexOf("/mfe/fast/api"));
+        assertThat(result.getExecutions()).extracting(TestExecution::getPath)
+                .containsSubsequence("/slow/items", "/fast/items");
+    }
+
+    static void mockQuarkusHost(TestService service, String host, List<OpenApiOperation> operations) {
+        when(service.quarkusService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(200));
+        when(service.springBootService.invokeGeneric2xxEndpoint(host)).thenReturn(Uni.createFrom().item(404));
+        when(service.quarkusService.resolveOpenApiPath(host)).thenReturn("/q/openapi");
+        when(service.quarkusService.getOpenApiOperations(host)).thenReturn(operations);
+    }
+
+    @SuppressWarnings("unchecked")
+    static HttpRequest<Buffer> request(Duration delay) {
+        HttpResponse<Buffer> unauthorized = mock(HttpResponse.class);
+        when(unauthorized.statusCode()).thenReturn(401);
+        HttpRequest<Buffer> request = mock(HttpRequest.class, Mockito.RETURNS_SELF);
+        var response = Uni.createFrom().item(unauthorized);
+        when(request.send()).thenReturn(delay.isZero() ? response : response.onItem().delayIt().by(delay));
+        return request;
+    }
+}
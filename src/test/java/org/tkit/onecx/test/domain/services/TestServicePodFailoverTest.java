@@ -0,0 +1,101 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.ServiceException;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.uritemplate.UriTemplate;
+
+@QuarkusTest
+class TestServicePodFailoverTest extends AbstractTestServiceTest {
+
+    @Test
+    void execute_readsNginxConfigFromNextPod_whenExecOnFirstPodFails() {
+        var service = createService(List.of("pod-1", "pod-2", "pod-3"));
+        when(service.k8sExecService.execCommandOnPod(eq("pod-1"), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenThrow(new ServiceException("exec timed out"));
+        when(service.k8sExecService.execCommandOnPod(eq("pod-2"), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenReturn(List.of(new ProxyConfiguration("/mfe/test/api", "http://failover-host", "/test", "/test")));
+
+        var result = service.execute(createRequest("https://domain.example"));
+
+        assertThat(result.getExecutions()).isNotEmpty();
+        verify(service.k8sExecService).execCommandOnPod(eq("pod-2"), eq(TestService.CMD_CONFIG),
+                eq(timeoutConfig.execAttempt()), any());
+        verify(service.k8sExecService, never()).execCommandOnPod(eq("pod-3"), any(String[].class), any(), any());
+    }
+
+    @Test
+    void execute_readsNginxConfigFromNextPod_whenKubernetesClientFailsOnFirstPod() {
+        var service = createService(List.of("pod-1", "pod-2"));
+        when(service.k8sExecService.execCommandOnPod(eq("pod-1"), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenThrow(new KubernetesClientException("pod lookup failed"));
+        when(service.k8sExecService.execCommandOnPod(eq("pod-2"), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenReturn(List.of(new ProxyConfiguration("/mfe/test/api", "http://failover-host", "/test", "/test")));
+
+        var result = service.execute(createRequest("https://domain.example"));
+
+        assertThat(result.getExecutions()).isNotEmpty();
+    }
+
+    @Test
+    void execute_failsWithServiceException_whenKubernetesClientFailsOnAllPods() {
+        var service = createService(List.of("pod-1"));
+        when(service.k8sExecService.execCommandOnPod(eq("pod-1"), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenThrow(new KubernetesClientException("pod lookup failed"));
+
+        var request = createRequest("https://domain.example");
+        assertThatThrownBy(() -> service.execute(request))
+                .isInstanceOf(ServiceException.class)
+                .hasRootCauseInstanceOf(KubernetesClientException.class);
+    }
+
+    @Test
+    void execute_failsWithLastError_whenExecFailsOnAllPods() {
+        var service = createService(List.of("pod-1", "pod-2"));
+        when(service.k8sExecService.execCommandOnPod(eq("pod-1"), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenThrow(new ServiceException("pod-1 failed"));
+        when(service.k8sExecService.execCommandOnPod(eq("pod-2"), eq(TestService.CMD_CONFIG), any(), any()))
+                .thenThrow(new ServiceException("pod-2 failed"));
+
+        var request = createRequest("https://domain.example");
+        assertThatThrownBy(() -> service.execute(request))
+                .isInstanceOf(ServiceException.class)
+                .hasMessage("pod-2 failed");
+    }
+
+    private TestService createService(List<String> pods) {
+        var service = createTestService();
+        when(service.k8sService.findServiceSelector(SERVICE)).thenReturn(SELECTOR);
+        when(service.k8sService.findPodsBySelector(SELECTOR)).thenReturn(pods);
+
+        when(service.quarkusService.invokeGeneric2xxEndpoint("http://failover-host"))
+                .thenReturn(Uni.createFrom().item(200));
+        when(service.springBootService.invokeGeneric2xxEndpoint("http://failover-host"))
+                .thenReturn(Uni.createFrom().item(404));
+        when(service.quarkusService.resolveOpenApiPath("http://failover-host")).thenReturn("/q/openapi");
+        when(service.quarkusService.getOpenApiOperations("http://failover-host")).thenReturn(List.of(
+                new OpenApiOperation("/failover", "GET", "op", List.of(), null)));
+
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString()))
+                .thenThrow(new RuntimeException("generic-request-create-failed"));
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenThrow(new RuntimeException("request-abs-failed"));
+        return service;
+    }
+}
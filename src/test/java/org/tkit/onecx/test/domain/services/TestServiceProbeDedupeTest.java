@@ -0,0 +1,72 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.tkit.onecx.test.domain.models.OpenApiOperation;
+import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.TestExecution;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.ext.web.client.HttpRequest;
+import io.vertx.mutiny.ext.web.client.HttpResponse;
+import io.vertx.mutiny.uritemplate.UriTemplate;
+
+@QuarkusTest
+class TestServiceProbeDedupeTest extends AbstractTestServiceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_sendsRequestsWithSameMethodAndUriOnce() {
+        TestService service = createTestService();
+        mockProxyPassLocations(service, List.of("pod-1"),
+                new ProxyConfiguration("/mfe/test/api", "http://dedupe-host", "/test", "/test"));
+
+        when(service.quarkusService.invokeGeneric2xxEndpoint("http://dedupe-host")).thenReturn(Uni.createFrom().item(200));
+        when(service.springBootService.invokeGeneric2xxEndpoint("http://dedupe-host"))
+                .thenReturn(Uni.createFrom().item(404));
+        // the generic health check path is also the spec path
+        when(service.quarkusService.resolveOpenApiPath("http://dedupe-host")).thenReturn("/q/health");
+        // both operations resolve to the same URI, the path parameters are replaced
+        when(service.quarkusService.getOpenApiOperations("http://dedupe-host")).thenReturn(List.of(
+                new OpenApiOperation("/items/{id}", "GET", "getItem", List.of("id"), null),
+                new OpenApiOperation("/items/{itemId}", "GET", "findItem", List.of("itemId"), null),
+                new OpenApiOperation("/items/{itemId}", "DELETE", "deleteItem", List.of("itemId"), null)));
+
+        HttpResponse<Buffer> unauthorized = mock(HttpResponse.class);
+        when(unauthorized.statusCode()).thenReturn(401);
+
+        HttpRequest<Buffer> genericRequest = mock(HttpRequest.class, Mockito.RETURNS_SELF);
+        when(genericRequest.send()).thenReturn(Uni.createFrom().item(unauthorized));
+        HttpRequest<Buffer> operationRequest = mock(HttpRequest.class, Mockito.RETURNS_SELF);
+        when(operationRequest.send()).thenReturn(Uni.createFrom().item(unauthorized));
+
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), anyString()))
+                .thenReturn(genericRequest);
+        when(service.probeWebClient.requestAbs(any(io.vertx.core.http.HttpMethod.class), any(UriTemplate.class)))
+                .thenReturn(operationRequest);
+
+        var result = service.execute(createRequest("https://domain.example"));
+
+        // 7 generic checks, the spec path check is the same request as the /q/health check
+        verify(genericRequest, times(7)).send();
+        // GET and DELETE of the operations
+        verify(operationRequest, times(2)).send();
+        var operations = result.getExecutions().stream().filter(e -> e.getPath().startsWith("/items")).toList();
+        assertThat(operations).hasSize(3);
+        assertThat(operations).extracting(TestExecution::getCode).containsOnly(401);
+        assertThat(operations).extracting(TestExecution::getStatus).containsOnly(TestExecution.Status.OK);
+        assertThat(result.getExecutions()).filteredOn(e -> "/q/health".equals(e.getPath())).hasSize(2);
+    }
+}
@@ -0,0 +1,78 @@
+package org.tkit.onecx.test.domain.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+
+@QuarkusTest
+class TokenBucketTest {
+
+    @Test
+    void delaysRequestsAboveBurst() {
+        var bucket = new TokenBucket(1, 2);
+
+        assertThat(bucket.isUnlimited()).isFalse();
+        assertThat(bucket.reserve(Long.MAX_VALUE)).isZero();
+        assertThat(bucket.reserve(Long.MAX_VALUE)).isZero();
+        assertThat(bucket.reserve(Long.MAX_VALUE)).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(bucket.reserve(Long.MAX_VALUE)).isGreaterThan(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void doesNotGoIntoDebtBeyondMaxWait() {
+        var bucket = new TokenBucket(1, 1);
+
+        assertThat(bucket.reserve(0)).isZero();
+        assertThat(bucket.reserve(TimeUnit.MILLISECONDS.toNanos(100))).isEqualTo(-1);
+        assertThat(bucket.acquire(Duration.ofMillis(100)).await().indefinitely()).isFalse();
+        // the refused reservations took no token
+        assertThat(bucket.reserve(Long.MAX_VALUE)).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void releaseGivesTokenBack() {
+        var bucket = new TokenBucket(1, 1);
+
+        assertThat(bucket.reserve(0)).isZero();
+        bucket.release();
+
+        assertThat(bucket.reserve(0)).isZero();
+    }
+
+    @Test
+    void cancelledWaitGivesTokenBack() {
+        var bucket = new TokenBucket(1, 1);
+        assertThat(bucket.reserve(0)).isZero();
+
+        var waiting = bucket.acquire(Duration.ofMinutes(1)).subscribe().withSubscriber(UniAssertSubscriber.create());
+        waiting.cancel();
+
+        // only the first token is still owed
+        assertThat(bucket.reserve(Long.MAX_VALUE)).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void unlimitedWithoutRate() {
+        var bucket = new TokenBucket(0, 1);
+
+        assertThat(bucket.isUnlimited()).isTrue();
+        assertThat(bucket.acquire(Duration.ZERO).await().indefinitely()).isTrue();
+    }
+
+    @Test
+    void acquireWaitsForToken() {
+        var bucket = new TokenBucket(20, 1);
+        assertThat(bucket.acquire(Duration.ZERO).await().indefinitely()).isTrue();
+
+        var start = System.nanoTime();
+        assertThat(bucket.acquire(Duration.ofSeconds(1)).await().indefinitely()).isTrue();
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+}
@@ -7,6 +7,7 @@ import static jakarta.ws.rs.core.Response.Status.FORBIDDEN;
 import static jakarta.ws.rs.core.Response.Status.INTERNAL_SERVER_ERROR;
 import static jakarta.ws.rs.core.Response.Status.OK;
 import static jakarta.ws.rs.core.Response.Status.UNAUTHORIZED;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.microprofile.openapi.OASFactory.createOpenAPI;
@@ -17,9 +18,15 @@ import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
 import static org.eclipse.microprofile.openapi.OASFactory.createServer;
 import static org.mockito.ArgumentMatchers.any;
 
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+
+import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
@@ -27,7 +34,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.tkit.onecx.test.domain.models.ProxyConfiguration;
+import org.tkit.onecx.test.domain.models.TestTimeoutConfig;
+import org.tkit.onecx.test.domain.services.BlockingTaskExecutor;
 import org.tkit.onecx.test.domain.services.K8sExecService;
+import org.tkit.onecx.test.domain.services.K8sTestServices;
 import org.tkit.onecx.test.domain.services.NginxService;
 import org.tkit.onecx.test.operator.AbstractTest;
 import org.tkit.onecx.test.operator.rs.v1.mappers.ExceptionMapper;
@@ -41,6 +51,7 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.ExecWatch;
 import io.fabric8.kubernetes.client.dsl.Execable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
@@ -67,16 +78,28 @@ class BaseRestControllerTest extends AbstractTest {
     @InjectMock
     NginxService nginxService;
 
+    @Inject
+    TestTimeoutConfig timeoutConfig;
+
+    @Inject
+    BlockingTaskExecutor blockingTasks;
+
     private final NginxService realNginxService = new NginxService();
 
     @BeforeEach
     void resetExpectation() {
         clearExpectation(mockServerClient);
         // Keep existing tests behavior by defaulting mocked NginxService to real parsing.
+        Mockito.lenient()
+                .doAnswer(invocation -> realNginxService.getProxyPassLocation(invocation.getArgument(0, Reader.class)))
+                .when(nginxService).getProxyPassLocation(any(Reader.class));
+        // Stream the stubbed command output to the reader of the streaming exec.
         Mockito.lenient().doAnswer(invocation -> {
-            var output = invocation.getArgument(0, String.class);
-            return output == null ? List.of() : realNginxService.getProxyPassLocation(output);
-        }).when(nginxService).getProxyPassLocation(any());
+            var output = k8sExecService.execCommandOnPod(invocation.getArgument(0, String.class),
+                    invocation.getArgument(1, String[].class));
+            Function<Reader, ?> reader = invocation.getArgument(3);
+            return output == null || output.isEmpty() ? null : reader.apply(new StringReader(output));
+        }).when(k8sExecService).execCommandOnPod(any(), any(String[].class), any(), any());
     }
 
     @Test
@@ -242,7 +265,7 @@ class BaseRestControllerTest extends AbstractTest {
 
         Mockito.doReturn(List.of(
                 new ProxyConfiguration(location, mockUrl, "/cool-prefix-rs", "   ")))
-                .when(nginxService).getProxyPassLocation(any());
+                .when(nginxService).getProxyPassLocation(any(Reader.class));
 
         createOpenApiMock(createOpenAPI().addServer(createServer().url("http://localhost:8080"))
                 .paths(createPaths().addPathItem(apiPath, createPathItem().GET(createOperation()))));
@@ -288,7 +311,7 @@ class BaseRestControllerTest extends AbstractTest {
         Mockito.doReturn(List.of(
                 new ProxyConfiguration(expectedLocation, mockUrl, "/cool-prefix-rs", "cool-prefix-rs"),
                 new ProxyConfiguration(fallbackLocation, mockUrl, "", "")))
-                .when(nginxService).getProxyPassLocation(any());
+                .when(nginxService).getProxyPassLocation(any(Reader.class));
 
         createOpenApiMock(createOpenAPI().addServer(createServer().url("http://localhost:8080"))
                 .paths(createPaths().addPathItem(apiPath, createPathItem().GET(createOperation()))));
@@ -334,7 +357,7 @@ class BaseRestControllerTest extends AbstractTest {
         Mockito.doReturn(List.of(
                 new ProxyConfiguration(ignoredLocation, null, "/ignored", "/ignored"),
                 new ProxyConfiguration(validLocation, mockUrl, "/null-host-filter", "/null-host-filter")))
-                .when(nginxService).getProxyPassLocation(any());
+                .when(nginxService).getProxyPassLocation(any(Reader.class));
 
         createOpenApiMock(createOpenAPI().addServer(createServer().url("http://localhost:8080"))
                 .paths(createPaths().addPathItem(apiPath, createPathItem().GET(createOperation()))));
@@ -1026,6 +1049,7 @@ class BaseRestControllerTest extends AbstractTest {
         PodResource pr = Mockito.mock(PodResource.class);
         Mockito.when(pr.get()).thenReturn(pod);
         Mockito.when(pr.writingOutput(any())).thenReturn(te);
+        Mockito.when(pr.redirectingOutput()).thenReturn(te);
 
         PodResource pr2 = Mockito.mock(PodResource.class);
         Mockito.when(pr2.get()).thenReturn(null);
@@ -1041,7 +1065,7 @@ class BaseRestControllerTest extends AbstractTest {
         var client = Mockito.mock(KubernetesClient.class);
         Mockito.when(client.pods()).thenReturn(mo);
 
-        return new K8sExecService(client);
+        return K8sTestServices.k8sExecService(client, timeoutConfig, blockingTasks);
     }
 
     @Test
@@ -1066,6 +1090,40 @@ class BaseRestControllerTest extends AbstractTest {
 
     }
 
+    @Test
+    void executionStreamingTest() {
+        ExecWatch watch = Mockito.mock(ExecWatch.class);
+        Mockito.when(watch.getOutput()).thenReturn(
+                new ByteArrayInputStream("location /stream { proxy_pass http://stream-bff/api; }".getBytes(UTF_8)),
+                new ByteArrayInputStream(new byte[0]));
+
+        Execable exe = Mockito.mock(Execable.class);
+        Mockito.when(exe.exec(any())).thenReturn(watch);
+
+        TtyExecErrorChannelable tee = Mockito.mock(TtyExecErrorChannelable.class);
+        Mockito.when(tee.usingListener(any())).then(invocation -> {
+            K8sExecService.SimpleListener s = invocation.getArgument(0);
+            s.onOpen();
+            s.onClose(0, "Done");
+            return exe;
+        });
+
+        var k8sExecService2 = createService(tee);
+
+        List<ProxyConfiguration> missing = k8sExecService2.execCommandOnPod("does-not-exists", CMD_CONFIG,
+                realNginxService::getProxyPassLocation);
+        assertThat(missing).isNull();
+
+        List<ProxyConfiguration> result = k8sExecService2.execCommandOnPod("name", CMD_CONFIG,
+                realNginxService::getProxyPassLocation);
+        assertThat(result).extracting("location").containsExactly("/stream");
+
+        // no output at all is reported like a missing pod
+        List<ProxyConfiguration> empty = k8sExecService2.execCommandOnPod("name", CMD_CONFIG,
+                realNginxService::getProxyPassLocation);
+        assertThat(empty).isNull();
+    }
+
     @Test
     void executionErrorTest() {
         Execable exe = Mockito.mock(Execable.class);
@@ -7,8 +7,12 @@ import static jakarta.ws.rs.core.Response.Status.OK;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.microprofile.openapi.OASFactory.*;
 import static org.eclipse.microprofile.openapi.OASFactory.createOperation;
+import static org.mockito.ArgumentMatchers.any;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
@@ -39,6 +43,13 @@ class UIRestControllerTest extends AbstractTest {
     @BeforeEach
     void resetExpectation() {
         clearExpectation(mockServerClient);
+        // Stream the stubbed command output to the reader of the streaming exec.
+        Mockito.lenient().doAnswer(invocation -> {
+            var output = k8sExecService.execCommandOnPod(invocation.getArgument(0, String.class),
+                    invocation.getArgument(1, String[].class));
+            Function<Reader, ?> reader = invocation.getArgument(3);
+            return output == null || output.isEmpty() ? null : reader.apply(new StringReader(output));
+        }).when(k8sExecService).execCommandOnPod(any(), any(String[].class), any(), any());
     }
 
     @Test